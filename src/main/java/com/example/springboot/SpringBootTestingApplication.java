@@ -1,13 +1,24 @@
 package com.example.springboot;
 
+import com.example.springboot.config.NativeRuntimeHints;
+import com.example.springboot.importer.EmployeeImportRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class SpringBootTestingApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(SpringBootTestingApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(SpringBootTestingApplication.class, args);
+		// A one-off import exits with its runner's status instead of staying up.
+		if (context.getBeanProvider(EmployeeImportRunner.class).getIfAvailable() != null) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
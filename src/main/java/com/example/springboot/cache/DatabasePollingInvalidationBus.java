@@ -0,0 +1,157 @@
+package com.example.springboot.cache;
+
+import com.example.springboot.config.CacheConfig;
+import com.example.springboot.config.CacheInvalidationProperties;
+import com.example.springboot.event.EmployeeCacheInvalidationEvent;
+import com.example.springboot.model.CacheInvalidation;
+import com.example.springboot.repository.CacheInvalidationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus backed by the {@code cache_invalidations} change-version table.
+ * <p>
+ * Each broadcast inserts one row per key; every instance polls for rows above the last
+ * version it has seen, so a peer evicts a key at most one poll interval after the row
+ * becomes visible to it. Broadcasts run after the originating commit, so they write in a
+ * transaction of their own.
+ * <p>
+ * Versions are assigned at insert time, so concurrent broadcasts can commit out of order and
+ * a lower version can become visible after a higher one was read. The versions skipped that
+ * way are remembered as gaps and looked up again on every poll until they appear or
+ * {@code gap-timeout} passes, after which they are assumed rolled back.
+ */
+@Slf4j
+public class DatabasePollingInvalidationBus implements InvalidationBus {
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+
+    private final CacheInvalidationProperties properties;
+
+    private final List<Consumer<EmployeeCacheInvalidationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    private long lastVersion = -1;
+
+    // Versions below lastVersion that were not visible yet, with the time each was first missed.
+    private final Map<Long, Instant> gaps = new HashMap<>();
+
+    public DatabasePollingInvalidationBus(CacheInvalidationRepository cacheInvalidationRepository,
+            CacheInvalidationProperties properties) {
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void broadcast(EmployeeCacheInvalidationEvent invalidation) {
+        Instant now = Instant.now();
+        List<CacheInvalidation> rows = new ArrayList<>();
+        for (Long id : invalidation.ids()) {
+            rows.add(row(CacheConfig.EMPLOYEES_BY_ID, String.valueOf(id), now));
+        }
+        for (String email : invalidation.emails()) {
+            rows.add(row(CacheConfig.EMPLOYEES_BY_EMAIL, email, now));
+        }
+        cacheInvalidationRepository.saveAll(rows);
+    }
+
+    @Override
+    public void subscribe(Consumer<EmployeeCacheInvalidationEvent> listener) {
+        listeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${employees.cache.poll-interval:PT1S}")
+    public synchronized void poll() {
+        if (lastVersion < 0) {
+            // Local caches start empty, so history from before this instance started is irrelevant.
+            lastVersion = cacheInvalidationRepository.findLatestVersion();
+            return;
+        }
+
+        Instant now = Instant.now();
+        if (!gaps.isEmpty()) {
+            pollGaps(now);
+        }
+
+        List<CacheInvalidation> rows;
+        do {
+            rows = cacheInvalidationRepository.findByVersionGreaterThanOrderByVersionAsc(lastVersion,
+                    Limit.of(properties.getMaxBatchSize()));
+            if (rows.isEmpty()) {
+                return;
+            }
+            for (CacheInvalidation row : rows) {
+                long skipped = row.getVersion() - lastVersion - 1;
+                // A jump larger than a batch is not in-flight broadcasts but, say, a sequence restart.
+                if (skipped > 0 && skipped <= properties.getMaxBatchSize()) {
+                    for (long version = lastVersion + 1; version < row.getVersion(); version++) {
+                        gaps.put(version, now);
+                    }
+                }
+                lastVersion = row.getVersion();
+            }
+            publish(rows);
+        } while (rows.size() == properties.getMaxBatchSize());
+    }
+
+    private void pollGaps(Instant now) {
+        List<Long> missing = new ArrayList<>(gaps.keySet());
+        for (int from = 0; from < missing.size(); from += properties.getMaxBatchSize()) {
+            List<CacheInvalidation> late = cacheInvalidationRepository.findByVersionIn(
+                    missing.subList(from, Math.min(from + properties.getMaxBatchSize(), missing.size())));
+            if (!late.isEmpty()) {
+                late.forEach(row -> gaps.remove(row.getVersion()));
+                publish(late);
+            }
+        }
+        Instant expired = now.minus(properties.getGapTimeout());
+        gaps.values().removeIf(missedAt -> missedAt.isBefore(expired));
+    }
+
+    private void publish(List<CacheInvalidation> rows) {
+        Set<Long> ids = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (CacheInvalidation row : rows) {
+            if (CacheConfig.EMPLOYEES_BY_ID.equals(row.getCacheName())) {
+                ids.add(Long.valueOf(row.getCacheKey()));
+            } else {
+                emails.add(row.getCacheKey());
+            }
+        }
+        EmployeeCacheInvalidationEvent invalidation = new EmployeeCacheInvalidationEvent(ids, emails);
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    int getGapCount() {
+        return gaps.size();
+    }
+
+    @Scheduled(fixedDelayString = "${employees.cache.retention:PT10M}")
+    public void prune() {
+        int pruned = cacheInvalidationRepository.deleteOlderThan(Instant.now().minus(properties.getRetention()));
+        if (pruned > 0) {
+            log.debug("Pruned {} cache invalidation rows", pruned);
+        }
+    }
+
+    private static CacheInvalidation row(String cacheName, String cacheKey, Instant createdAt) {
+        return CacheInvalidation.builder()
+                .cacheName(cacheName)
+                .cacheKey(cacheKey)
+                .createdAt(createdAt)
+                .build();
+    }
+}
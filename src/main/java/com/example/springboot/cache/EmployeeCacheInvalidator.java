@@ -0,0 +1,85 @@
+package com.example.springboot.cache;
+
+import com.example.springboot.config.CacheConfig;
+import com.example.springboot.event.EmployeeCacheInvalidationEvent;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Evicts employee cache entries after a local write commits and whenever a peer reports one.
+ * <p>
+ * With a read replica, evicted keys are remembered for the replica-lag window
+ * ({@code employees.datasource.read-your-writes-window}). The replica may not have applied the
+ * write yet, so the employee caches do not store what a read returns for such a key, see
+ * {@link #isSettling}; otherwise the first read after an eviction could put the old row
+ * straight back until the cache TTL.
+ */
+@Component
+public class EmployeeCacheInvalidator {
+
+    private final Cache employeesById;
+
+    private final Cache employeesByEmail;
+
+    private final InvalidationBus invalidationBus;
+
+    private final Map<String, Boolean> settlingKeys;
+
+    @Autowired
+    public EmployeeCacheInvalidator(CacheManager cacheManager, InvalidationBus invalidationBus,
+            @Value("${employees.datasource.replica.jdbc-url:}") String replicaUrl,
+            @Value("${employees.datasource.read-your-writes-window:PT5S}") Duration replicaLag) {
+        // Without a replica every read comes from the primary, so there is no lag to wait out.
+        this(cacheManager, invalidationBus, replicaUrl.isEmpty() ? Duration.ZERO : replicaLag);
+    }
+
+    EmployeeCacheInvalidator(CacheManager cacheManager, InvalidationBus invalidationBus, Duration settleWindow) {
+        this.employeesById = cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID);
+        this.employeesByEmail = cacheManager.getCache(CacheConfig.EMPLOYEES_BY_EMAIL);
+        this.invalidationBus = invalidationBus;
+        this.settlingKeys = settleWindow.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(settleWindow)
+                .maximumSize(100_000)
+                .<String, Boolean>build()
+                .asMap();
+        invalidationBus.subscribe(this::evict);
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeWrite(EmployeeCacheInvalidationEvent invalidation) {
+        // Evict here first so this instance never waits for its own broadcast to come back.
+        evict(invalidation);
+        invalidationBus.broadcast(invalidation);
+    }
+
+    /**
+     * Whether {@code key} was evicted from {@code cacheName} within the replica-lag window, in which
+     * case a value just read for it may be stale and must not be cached.
+     */
+    public boolean isSettling(String cacheName, Object key) {
+        return settlingKeys != null && settlingKeys.containsKey(settlingKey(cacheName, key));
+    }
+
+    void evict(EmployeeCacheInvalidationEvent invalidation) {
+        if (settlingKeys != null) {
+            // Marked before evicting, so a read that finishes in between cannot re-cache the old row.
+            invalidation.ids().forEach(id -> settlingKeys.put(settlingKey(CacheConfig.EMPLOYEES_BY_ID, id), Boolean.TRUE));
+            invalidation.emails().forEach(email ->
+                    settlingKeys.put(settlingKey(CacheConfig.EMPLOYEES_BY_EMAIL, email), Boolean.TRUE));
+        }
+        invalidation.ids().forEach(employeesById::evict);
+        invalidation.emails().forEach(employeesByEmail::evict);
+    }
+
+    private static String settlingKey(String cacheName, Object key) {
+        return cacheName + ':' + key;
+    }
+}
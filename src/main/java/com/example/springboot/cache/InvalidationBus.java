@@ -0,0 +1,18 @@
+package com.example.springboot.cache;
+
+import com.example.springboot.event.EmployeeCacheInvalidationEvent;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations between instances of the service.
+ * <p>
+ * {@link #broadcast} is called after the write has committed. Every subscriber, including
+ * the ones on the broadcasting instance, eventually receives the invalidation.
+ */
+public interface InvalidationBus {
+
+    void broadcast(EmployeeCacheInvalidationEvent invalidation);
+
+    void subscribe(Consumer<EmployeeCacheInvalidationEvent> listener);
+}
@@ -0,0 +1,25 @@
+package com.example.springboot.cache;
+
+import com.example.springboot.event.EmployeeCacheInvalidationEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidations synchronously to subscribers in the same JVM.
+ */
+public class LocalInvalidationBus implements InvalidationBus {
+
+    private final List<Consumer<EmployeeCacheInvalidationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void broadcast(EmployeeCacheInvalidationEvent invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<EmployeeCacheInvalidationEvent> listener) {
+        listeners.add(listener);
+    }
+}
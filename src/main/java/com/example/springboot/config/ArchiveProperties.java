@@ -0,0 +1,21 @@
+package com.example.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employees.archive")
+public class ArchiveProperties {
+
+    /**
+     * Deleted employees moved to the archive per transaction; EmployeeArchiveTask repeats until none are left.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Upper bound for the number of archived employees returned by one page of the archive.
+     */
+    private int maxPageSize = 1000;
+}
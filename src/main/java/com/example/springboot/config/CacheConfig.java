@@ -0,0 +1,32 @@
+package com.example.springboot.config;
+
+import com.example.springboot.cache.DatabasePollingInvalidationBus;
+import com.example.springboot.cache.InvalidationBus;
+import com.example.springboot.cache.LocalInvalidationBus;
+import com.example.springboot.repository.CacheInvalidationRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EMPLOYEES_BY_ID = "employeesById";
+
+    public static final String EMPLOYEES_BY_EMAIL = "employeesByEmail";
+
+    @Bean
+    @ConditionalOnProperty(name = "employees.cache.invalidation-bus", havingValue = "local", matchIfMissing = true)
+    public InvalidationBus localInvalidationBus() {
+        return new LocalInvalidationBus();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "employees.cache.invalidation-bus", havingValue = "database")
+    public InvalidationBus databasePollingInvalidationBus(CacheInvalidationRepository cacheInvalidationRepository,
+            CacheInvalidationProperties properties) {
+        return new DatabasePollingInvalidationBus(cacheInvalidationRepository, properties);
+    }
+}
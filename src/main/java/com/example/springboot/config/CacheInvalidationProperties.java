@@ -0,0 +1,44 @@
+package com.example.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employees.cache")
+public class CacheInvalidationProperties {
+
+    public enum Bus {
+        /**
+         * In-process only; suitable for a single instance and for tests.
+         */
+        LOCAL,
+        /**
+         * Invalidations are written to the cache_invalidations table and polled by every instance.
+         */
+        DATABASE
+    }
+
+    private Bus invalidationBus = Bus.LOCAL;
+
+    /**
+     * How often peers poll for invalidations; this bounds how long another node can serve a stale entry.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * How long invalidation rows are kept; must comfortably exceed the poll interval.
+     */
+    private Duration retention = Duration.ofMinutes(10);
+
+    private int maxBatchSize = 1000;
+
+    /**
+     * How long a version skipped by a poll is looked up again; a broadcast that commits after a higher
+     * version was read is still delivered within this window, later gaps are assumed rolled back.
+     */
+    private Duration gapTimeout = Duration.ofSeconds(30);
+}
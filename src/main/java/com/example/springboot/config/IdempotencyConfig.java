@@ -0,0 +1,31 @@
+package com.example.springboot.config;
+
+import com.example.springboot.idempotency.IdempotencyFilter;
+import com.example.springboot.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties) {
+        return new IdempotencyStore(properties.getMaxEntries(), properties.getTtl());
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore,
+            IdempotencyProperties properties, ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyStore, properties.getWaitTimeout(),
+                        properties.getMaxBodySize(), objectMapper));
+        registration.addUrlPatterns("/api/*");
+        // After the read-your-writes filter, when replicas are configured, so a replayed write still pins the client
+        // to the primary.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 200);
+        return registration;
+    }
+}
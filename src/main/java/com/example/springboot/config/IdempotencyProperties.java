@@ -0,0 +1,36 @@
+package com.example.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employees.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Maximum number of remembered responses; beyond it, responses are evicted by the cache's size-bounded policy,
+     * which favours frequently replayed keys. Keys whose request is still running are not counted and never evicted.
+     */
+    private int maxEntries = 10000;
+
+    /**
+     * How long a key and its response are remembered after the original request completed.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * How long a duplicate waits for the original request to finish before giving up with 409.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Largest request body buffered to fingerprint a request with an idempotency key; larger ones are rejected with 413.
+     */
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+}
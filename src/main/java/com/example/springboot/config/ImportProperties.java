@@ -0,0 +1,43 @@
+package com.example.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employees.import")
+public class ImportProperties {
+
+    /**
+     * Rows per chunk; each chunk is validated as a unit and committed in one transaction.
+     */
+    private int chunkSize = 5000;
+
+    /**
+     * Threads parsing and validating chunks while the previous ones are written.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Emails per IN list when checking a chunk against existing employees.
+     */
+    private int lookupBatchSize = 1000;
+
+    /**
+     * Upper bound for the number of rejected rows returned by one page of the reject report.
+     */
+    private int maxPageSize = 1000;
+
+    /**
+     * Where uploaded CSV files are kept until their import completes, so a failed one can be resumed.
+     */
+    private Path spoolDirectory = Path.of(System.getProperty("java.io.tmpdir"), "employee-imports");
+
+    /**
+     * CSV file to import at startup, after which the application exits; see EmployeeImportRunner.
+     */
+    private Path file;
+}
@@ -0,0 +1,21 @@
+package com.example.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employees.lookup")
+public class LookupProperties {
+
+    /**
+     * Upper bound for the number of ids and emails, together, in one lookup request.
+     */
+    private int maxKeys = 1000;
+
+    /**
+     * Values per IN list; a lookup issues one query per batch of ids and per batch of emails.
+     */
+    private int batchSize = 500;
+}
@@ -0,0 +1,41 @@
+package com.example.springboot.config;
+
+import com.example.springboot.dto.EmployeeLookupResult;
+import com.example.springboot.dto.GenericListResult;
+import com.example.springboot.dto.GroupCount;
+import com.example.springboot.model.ArchivedEmployee;
+import com.example.springboot.model.Employee;
+import com.example.springboot.model.EmployeeChange;
+import com.example.springboot.model.EmployeeImport;
+import com.example.springboot.model.EmployeeImportReject;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.http.ProblemDetail;
+
+/**
+ * Reachability metadata for the native image that Spring AOT cannot infer on its own.
+ * <p>
+ * {@link GenericListResult} carries its payload as a generic array, so the element types
+ * it is used with are not visible from controller signatures; their Lombok-generated
+ * accessors are registered for Jackson binding here. The H2 driver is loaded by name.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                GenericListResult.class, Employee.class, Employee[].class,
+                EmployeeChange.class, EmployeeChange[].class, ArchivedEmployee.class, ArchivedEmployee[].class,
+                GroupCount.class, GroupCount[].class, EmployeeLookupResult.class, EmployeeLookupResult[].class,
+                EmployeeImport.class, EmployeeImportReject.class, EmployeeImportReject[].class,
+                ProblemDetail.class);
+
+        hints.reflection().registerType(TypeReference.of("org.h2.Driver"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
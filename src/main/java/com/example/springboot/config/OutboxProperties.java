@@ -0,0 +1,40 @@
+package com.example.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employees.outbox")
+public class OutboxProperties {
+
+    /**
+     * Changes older than this are removed entirely; consumers further behind must resync from GET /api/employees.
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Changes older than this are compacted down to the newest change per employee.
+     */
+    private Duration compactionHorizon = Duration.ofHours(1);
+
+    /**
+     * Upper bound for the number of changes returned by one page of the change feed.
+     */
+    private int maxPageSize = 1000;
+
+    /**
+     * How long the feed waits at a missing sequence number for the transaction holding it to commit. Sequence
+     * numbers are assigned at insert time, so an older transaction can commit after a newer one; past this
+     * timeout the missing number is assumed rolled back.
+     */
+    private Duration gapTimeout = Duration.ofSeconds(30);
+
+    /**
+     * How long an idle change stream connection is kept open before the client has to reconnect.
+     */
+    private Duration streamTimeout = Duration.ofMinutes(30);
+}
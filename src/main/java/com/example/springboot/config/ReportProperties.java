@@ -0,0 +1,17 @@
+package com.example.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employees.reports")
+public class ReportProperties {
+
+    /**
+     * Serve reports from summary tables maintained on every write instead of grouping the
+     * employees table per request; see EmployeeSummaryTables.
+     */
+    private boolean summaryTables = false;
+}
@@ -0,0 +1,33 @@
+package com.example.springboot.config;
+
+import com.example.springboot.repository.EmployeeRepository;
+import com.example.springboot.service.EmployeeChangeService;
+import com.example.springboot.service.EmployeeService;
+import com.example.springboot.snapshot.EmployeeSnapshot;
+import com.example.springboot.snapshot.SnapshotEmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty(name = "employees.snapshot.enabled", havingValue = "true")
+public class SnapshotConfig {
+
+    @Bean
+    public EmployeeSnapshot employeeSnapshot(EmployeeRepository employeeRepository,
+            EmployeeChangeService employeeChangeService, SnapshotProperties properties,
+            OutboxProperties outboxProperties, MeterRegistry meterRegistry) {
+        return new EmployeeSnapshot(employeeRepository, employeeChangeService, properties, outboxProperties,
+                meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public EmployeeService snapshotEmployeeService(@Qualifier("employeeServiceImpl") EmployeeService delegate,
+            EmployeeSnapshot employeeSnapshot) {
+        return new SnapshotEmployeeService(delegate, employeeSnapshot);
+    }
+}
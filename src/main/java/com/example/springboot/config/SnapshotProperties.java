@@ -0,0 +1,52 @@
+package com.example.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employees.snapshot")
+public class SnapshotProperties {
+
+    /**
+     * Serve id and email lookups from an off-heap snapshot of the employees table.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Initial size of the off-heap buffer; it doubles as needed.
+     */
+    private DataSize initialCapacity = DataSize.ofMegabytes(16);
+
+    /**
+     * How often the snapshot applies new outbox rows; this bounds how stale a lookup can be.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(1);
+
+    /**
+     * How often the snapshot is rebuilt from the employees table, repairing any change the
+     * outbox cursor skipped because its transaction committed late.
+     */
+    private Duration rebuildInterval = Duration.ofMinutes(15);
+
+    /**
+     * Rows read per query while loading the snapshot.
+     */
+    private int loadBatchSize = 1000;
+
+    /**
+     * File the snapshot is saved to and mapped from on startup, so a restarted instance can serve
+     * lookups before it has read the employees table; unset keeps the snapshot in memory only.
+     */
+    private Path file;
+
+    /**
+     * How often the snapshot is saved to {@link #file}; it is also saved on shutdown.
+     */
+    private Duration persistInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,32 @@
+package com.example.springboot.config;
+
+import com.example.springboot.cache.EmployeeCacheInvalidator;
+import com.example.springboot.cache.InvalidationBus;
+import com.example.springboot.snapshot.EmployeeSnapshot;
+import com.example.springboot.stream.EmployeeChangeStreamer;
+import com.example.springboot.stream.EmployeeEventBroadcaster;
+import com.example.springboot.task.EmployeeArchiveTask;
+import com.example.springboot.task.EmployeeChangeCleanupTask;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Beans that stay eager when {@code spring.main.lazy-initialization} is enabled:
+     * scheduled tasks only register once their bean exists, warm-up callbacks must run
+     * during startup, and the JPA bootstrap should overlap with web server startup
+     * rather than delay the first request.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(EntityManagerFactory.class,
+                SmartInitializingSingleton.class, EmployeeChangeCleanupTask.class, EmployeeArchiveTask.class,
+                EmployeeChangeStreamer.class, EmployeeEventBroadcaster.class,
+                InvalidationBus.class, EmployeeCacheInvalidator.class, EmployeeSnapshot.class);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employees.stream")
+public class StreamProperties {
+
+    public enum OverflowPolicy {
+        /**
+         * Discard the oldest buffered event to make room; the subscriber sees a gap in event ids.
+         */
+        DROP_OLDEST,
+        /**
+         * Close the connection; the subscriber reconnects with Last-Event-ID and catches up from the change feed.
+         */
+        DISCONNECT
+    }
+
+    /**
+     * Maximum number of events buffered for a single subscriber.
+     */
+    private int bufferSize = 256;
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DISCONNECT;
+
+    /**
+     * Threads shared by all subscribers for writing events; idle connections hold no thread.
+     */
+    private int senderThreads = 4;
+
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Interval of the keep-alive comment that also detects dead connections.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+}
@@ -0,0 +1,20 @@
+package com.example.springboot.config;
+
+import com.example.springboot.model.Employee;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ValidationConfig {
+
+    /**
+     * Builds the validator's constraint metadata for request payloads while the
+     * context starts, so the first request does not pay for the reflection scan.
+     */
+    @Bean
+    public SmartInitializingSingleton validationMetadataWarmup(Validator validator) {
+        return () -> validator.getConstraintsForClass(Employee.class);
+    }
+}
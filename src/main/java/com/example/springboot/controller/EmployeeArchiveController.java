@@ -0,0 +1,59 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.config.ArchiveProperties;
+import com.example.springboot.dto.GenericListResult;
+import com.example.springboot.exception.BadRequestException;
+import com.example.springboot.exception.ResourceNotFoundException;
+import com.example.springboot.model.ArchivedEmployee;
+import com.example.springboot.service.EmployeeArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Read access to deleted employees once EmployeeArchiveTask has moved them to the archive.
+ */
+@RestController
+@RequestMapping("/api/employees/archive")
+@RequiredArgsConstructor
+public class EmployeeArchiveController {
+
+    private final EmployeeArchiveService employeeArchiveService;
+
+    private final ArchiveProperties archiveProperties;
+
+    @GetMapping
+    public ResponseEntity<GenericListResult<ArchivedEmployee>> getArchivedEmployees(
+            @RequestParam(name = "email", required = false) String email,
+            @RequestParam(name = "since", defaultValue = "0") long since,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+
+        if (since < 0) {
+            throw new BadRequestException("Parameter 'since' must not be negative");
+        }
+
+        int pageSize = limit == null ? archiveProperties.getMaxPageSize()
+                : Math.max(1, Math.min(limit, archiveProperties.getMaxPageSize()));
+
+        List<ArchivedEmployee> archived = email == null
+                ? employeeArchiveService.getArchivedEmployees(since, pageSize)
+                : employeeArchiveService.getArchivedEmployeesByEmail(email, since, pageSize);
+        GenericListResult<ArchivedEmployee> result = new GenericListResult<>();
+        result.setData(archived.toArray(new ArchivedEmployee[0]));
+        result.setTotal((long) archived.size());
+        result.setStart(since);
+        result.setSize((long) pageSize);
+        result.setSort("id");
+        result.setOrder("asc");
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ArchivedEmployee> getArchivedEmployee(@PathVariable("id") long id) {
+        return employeeArchiveService.getArchivedEmployee(id)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> ResourceNotFoundException.archivedEmployee(id));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.config.OutboxProperties;
+import com.example.springboot.dto.GenericListResult;
+import com.example.springboot.exception.BadRequestException;
+import com.example.springboot.model.EmployeeChange;
+import com.example.springboot.service.EmployeeChangeService;
+import com.example.springboot.stream.EmployeeChangeStreamer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/employees/changes")
+@RequiredArgsConstructor
+public class EmployeeChangeController {
+
+    private final EmployeeChangeService employeeChangeService;
+
+    private final EmployeeChangeStreamer employeeChangeStreamer;
+
+    private final OutboxProperties outboxProperties;
+
+    @GetMapping
+    public ResponseEntity<GenericListResult<EmployeeChange>> getChanges(
+            @RequestParam(name = "since", defaultValue = "0") long since,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+
+        if (since < 0) {
+            throw new BadRequestException("Parameter 'since' must not be negative");
+        }
+
+        int pageSize = limit == null ? outboxProperties.getMaxPageSize()
+                : Math.max(1, Math.min(limit, outboxProperties.getMaxPageSize()));
+
+        List<EmployeeChange> changes = employeeChangeService.getChangesSince(since, pageSize);
+        GenericListResult<EmployeeChange> result = new GenericListResult<>();
+        result.setData(changes.toArray(new EmployeeChange[0]));
+        result.setTotal((long) changes.size());
+        result.setStart(since);
+        result.setSize((long) pageSize);
+        result.setSort("seq");
+        result.setOrder("asc");
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+
+        long from = lastEventId != null ? lastEventId : since != null ? since : employeeChangeService.getLatestSeq();
+        if (from < 0) {
+            throw new BadRequestException("Parameter 'since' must not be negative");
+        }
+        return employeeChangeStreamer.subscribe(from);
+    }
+}
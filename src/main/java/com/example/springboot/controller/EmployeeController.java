@@ -1,128 +1,133 @@
 package com.example.springboot.controller;
 
+import com.example.springboot.config.LookupProperties;
+import com.example.springboot.dto.EmployeeLookupRequest;
+import com.example.springboot.dto.EmployeeLookupResult;
 import com.example.springboot.dto.GenericListResult;
+import com.example.springboot.exception.BadRequestException;
+import com.example.springboot.exception.DuplicateEmailException;
+import com.example.springboot.exception.ResourceNotFoundException;
 import com.example.springboot.model.Employee;
 import com.example.springboot.service.EmployeeService;
-import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/employees")
-@RequiredArgsConstructor
 public class EmployeeController {
 
     private final EmployeeService employeeService;
 
+    // Writes and the checks before them bypass the snapshot behind the primary EmployeeService, which may
+    // still hold a row another client has just renamed or deleted.
+    private final EmployeeService databaseEmployeeService;
+
+    private final LookupProperties lookupProperties;
+
+    public EmployeeController(EmployeeService employeeService,
+            @Qualifier("employeeServiceImpl") EmployeeService databaseEmployeeService,
+            LookupProperties lookupProperties) {
+        this.employeeService = employeeService;
+        this.databaseEmployeeService = databaseEmployeeService;
+        this.lookupProperties = lookupProperties;
+    }
+
     @PostMapping
-    public ResponseEntity<?> saveEmployee(@RequestBody Employee employee) {
+    public ResponseEntity<Employee> saveEmployee(@Valid @RequestBody Employee employee) {
 
         if (employee.getId() != null) {
-            return ResponseEntity.badRequest().body("Employee ID is not null");
-        }
-
-        if (employee.getFirstName() == null || employee.getLastName() == null || employee.getEmail() == null) {
-            return ResponseEntity.badRequest().body("First Name, Last Name, and Email are required");
+            throw new BadRequestException("Employee ID is not null");
         }
 
-        Optional<Employee> existingEmployeeOptional = employeeService.findByEmail(employee.getEmail());
-        if (existingEmployeeOptional.isPresent()) {
-            return ResponseEntity.badRequest().body("Employee with the same email already exists");
+        if (databaseEmployeeService.findByEmail(employee.getEmail()).isPresent()) {
+            throw new DuplicateEmailException();
         }
 
-        Employee savedEmployee;
-        try {
-            savedEmployee = employeeService.saveEmployee(employee);
-            return ResponseEntity.ok(savedEmployee);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error saving employee: " + e.getMessage());
-        }
+        return ResponseEntity.ok(databaseEmployeeService.saveEmployee(employee));
     }
 
     @GetMapping
-    public ResponseEntity<?> getAllEmployees() {
-
-        try {
-            List<Employee> employees = employeeService.getAllEmployees();
-            GenericListResult<Employee> result = new GenericListResult<>();
-            Employee[] employeeArray = new Employee[employees.size()];
-            result.setData(employees.toArray(employeeArray));
-            result.setTotal((long) employees.size());
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error getting employees: " + e.getMessage());
-        }
+    public ResponseEntity<GenericListResult<Employee>> getAllEmployees() {
+
+        List<Employee> employees = employeeService.getAllEmployees();
+        GenericListResult<Employee> result = new GenericListResult<>();
+        Employee[] employeeArray = new Employee[employees.size()];
+        result.setData(employees.toArray(employeeArray));
+        result.setTotal((long) employees.size());
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getEmployeeById(@PathVariable("id") long id) {
-        try {
-            Optional<Employee> employeeOptional = employeeService.getEmployeeById(id);
-            if (employeeOptional.isPresent()) {
-                return ResponseEntity.ok(employeeOptional.get());
-            } else {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Employee with ID " + id + " not found");
-            }
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error getting employee by ID: " + e.getMessage());
+    public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") long id) {
+        return employeeService.getEmployeeById(id)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> ResourceNotFoundException.employee(id));
+    }
+
+    /**
+     * Resolves a list of ids and a list of emails in a few queries instead of one request per
+     * employee. Results follow the request, ids first, with {@code found: false} for misses.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<GenericListResult<EmployeeLookupResult>> lookupEmployees(
+            @Valid @RequestBody EmployeeLookupRequest request) {
+
+        List<Long> ids = request.getIds() == null ? List.of() : request.getIds();
+        List<String> emails = request.getEmails() == null ? List.of() : request.getEmails();
+
+        if (ids.size() + emails.size() > lookupProperties.getMaxKeys()) {
+            throw new BadRequestException("Lookup must contain at most " + lookupProperties.getMaxKeys()
+                    + " ids and emails");
         }
+
+        Map<Long, Employee> byId = ids.isEmpty() ? Map.of() : employeeService.getEmployeesByIds(ids);
+        Map<String, Employee> byEmail = emails.isEmpty() ? Map.of() : employeeService.findByEmails(emails);
+
+        List<EmployeeLookupResult> results = new ArrayList<>(ids.size() + emails.size());
+        ids.forEach(id -> results.add(EmployeeLookupResult.ofId(id, byId.get(id))));
+        emails.forEach(email -> results.add(EmployeeLookupResult.ofEmail(email, byEmail.get(email))));
+
+        GenericListResult<EmployeeLookupResult> result = new GenericListResult<>();
+        result.setData(results.toArray(new EmployeeLookupResult[0]));
+        result.setTotal((long) results.size());
+        return ResponseEntity.ok(result);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateEmployee(@PathVariable("id") long id, @RequestBody Employee employee) {
+    public ResponseEntity<Employee> updateEmployee(@PathVariable("id") long id, @Valid @RequestBody Employee employee) {
 
         if (employee.getId() == null) {
-            return ResponseEntity.badRequest().body("Employee ID in request body should not be null");
+            throw new BadRequestException("Employee ID in request body should not be null");
         }
 
         if (employee.getId()!= id) {
-            return ResponseEntity.badRequest().body("Employee ID in request body must match the path variable");
-        }
-
-        if (employee.getFirstName() == null || employee.getLastName() == null
-                || employee.getEmail() == null) {
-            return ResponseEntity.badRequest().body("First Name, Last Name, and Email are required");
-        }
-
-        Optional<Employee> employeeOptional = employeeService.getEmployeeById(id);
-        if (employeeOptional.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Employee with ID " + id + " not found");
+            throw new BadRequestException("Employee ID in request body must match the path variable");
         }
 
-        Employee employeeToUpdate = employeeOptional.get();
-
-        employeeToUpdate.setFirstName(employee.getFirstName());
-        employeeToUpdate.setLastName(employee.getLastName());
-        employeeToUpdate.setEmail(employee.getEmail());
-
-        try {
-            Employee employeeUpdated = employeeService.updateEmployee(employeeToUpdate);
-            return ResponseEntity.ok(employeeUpdated);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error updating employee: " + e.getMessage());
+        if (databaseEmployeeService.getEmployeeById(id).isEmpty()) {
+            throw ResourceNotFoundException.employee(id);
         }
 
+        // Update from the request body rather than mutating the looked-up instance, which may be shared through the cache.
+        return ResponseEntity.ok(databaseEmployeeService.updateEmployee(employee));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteEmployee(@PathVariable("id") long id) {
-        try {
-            Optional<Employee> employeeToDelete = employeeService.getEmployeeById(id);
+    public ResponseEntity<String> deleteEmployee(@PathVariable("id") long id) {
 
-            if (employeeToDelete.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Employee with ID " + id + " not found");
-            }
-
-            employeeService.deleteEmployee(id);
+        if (databaseEmployeeService.getEmployeeById(id).isEmpty()) {
+            // Deleting a missing employee has always been reported as a bad request.
+            throw new BadRequestException("Employee with ID " + id + " not found");
+        }
 
-            return ResponseEntity.status(HttpStatus.OK).body("Employee with ID " + id + " deleted successfully");
+        databaseEmployeeService.deleteEmployee(id);
 
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error deleting employee: " + e.getMessage());
-        }
+        return ResponseEntity.ok("Employee with ID " + id + " deleted successfully");
     }
 }
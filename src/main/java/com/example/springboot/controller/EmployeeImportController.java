@@ -0,0 +1,82 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.config.ImportProperties;
+import com.example.springboot.dto.GenericListResult;
+import com.example.springboot.exception.BadRequestException;
+import com.example.springboot.exception.ResourceNotFoundException;
+import com.example.springboot.model.EmployeeImport;
+import com.example.springboot.model.EmployeeImportReject;
+import com.example.springboot.service.EmployeeImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/employees/imports")
+@RequiredArgsConstructor
+public class EmployeeImportController {
+
+    private final EmployeeImportService employeeImportService;
+
+    private final ImportProperties importProperties;
+
+    /**
+     * Accepts a CSV file as the raw request body, so large files are streamed to disk rather
+     * than buffered as a multipart upload.
+     */
+    @PostMapping(consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<EmployeeImport> submitImport(InputStream csv) throws IOException {
+        EmployeeImport employeeImport = employeeImportService.submit(csv);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(employeeImport.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(employeeImport);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<EmployeeImport> getImport(@PathVariable("id") long id) {
+        return employeeImportService.getImport(id)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> ResourceNotFoundException.employeeImport(id));
+    }
+
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<EmployeeImport> resumeImport(@PathVariable("id") long id) {
+        return ResponseEntity.accepted().body(employeeImportService.resume(id));
+    }
+
+    @GetMapping("/{id}/rejects")
+    public ResponseEntity<GenericListResult<EmployeeImportReject>> getRejects(
+            @PathVariable("id") long id,
+            @RequestParam(name = "since", defaultValue = "0") long since,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+
+        if (since < 0) {
+            throw new BadRequestException("Parameter 'since' must not be negative");
+        }
+
+        if (employeeImportService.getImport(id).isEmpty()) {
+            throw ResourceNotFoundException.employeeImport(id);
+        }
+
+        int pageSize = limit == null ? importProperties.getMaxPageSize()
+                : Math.max(1, Math.min(limit, importProperties.getMaxPageSize()));
+
+        List<EmployeeImportReject> rejects = employeeImportService.getRejects(id, since, pageSize);
+        GenericListResult<EmployeeImportReject> result = new GenericListResult<>();
+        result.setData(rejects.toArray(new EmployeeImportReject[0]));
+        result.setTotal((long) rejects.size());
+        result.setStart(since);
+        result.setSize((long) pageSize);
+        result.setSort("lineNumber");
+        result.setOrder("asc");
+        return ResponseEntity.ok(result);
+    }
+}
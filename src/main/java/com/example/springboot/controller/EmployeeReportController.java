@@ -0,0 +1,47 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.dto.GenericListResult;
+import com.example.springboot.dto.GroupCount;
+import com.example.springboot.exception.BadRequestException;
+import com.example.springboot.service.EmployeeReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/employees/reports")
+@RequiredArgsConstructor
+public class EmployeeReportController {
+
+    private final EmployeeReportService employeeReportService;
+
+    @GetMapping("/email-domains")
+    public ResponseEntity<GenericListResult<GroupCount>> countByEmailDomain(
+            @RequestParam(name = "limit", required = false) Integer limit) {
+
+        if (limit != null && limit < 1) {
+            throw new BadRequestException("Parameter 'limit' must be positive");
+        }
+
+        List<GroupCount> counts = employeeReportService.countByEmailDomain(
+                limit == null ? Limit.unlimited() : Limit.of(limit));
+        return ResponseEntity.ok(result(counts, "count", "desc"));
+    }
+
+    @GetMapping("/last-name-initials")
+    public ResponseEntity<GenericListResult<GroupCount>> countByLastNameInitial() {
+        return ResponseEntity.ok(result(employeeReportService.countByLastNameInitial(), "group", "asc"));
+    }
+
+    private static GenericListResult<GroupCount> result(List<GroupCount> counts, String sort, String order) {
+        GenericListResult<GroupCount> result = new GenericListResult<>();
+        result.setData(counts.toArray(new GroupCount[0]));
+        result.setTotal((long) counts.size());
+        result.setSort(sort);
+        result.setOrder(order);
+        return result;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.stream.EmployeeEventBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/employees/stream")
+@RequiredArgsConstructor
+public class EmployeeStreamController {
+
+    private final EmployeeEventBroadcaster employeeEventBroadcaster;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEmployees() {
+        return employeeEventBroadcaster.subscribe();
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.springboot.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,47 @@
+package com.example.springboot.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else to the
+ * primary. Must be wrapped in a {@code LazyConnectionDataSourceProxy} so the connection is
+ * only fetched once the transaction's read-only flag is known.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Counter primaryCounter;
+
+    private final Counter replicaCounter;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.primaryCounter = routedCounter(meterRegistry, DataSourceRole.PRIMARY);
+        this.replicaCounter = routedCounter(meterRegistry, DataSourceRole.REPLICA);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWritesContext.isPinnedToPrimary()) {
+            replicaCounter.increment();
+            return DataSourceRole.REPLICA;
+        }
+        primaryCounter.increment();
+        return DataSourceRole.PRIMARY;
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, DataSourceRole role) {
+        return Counter.builder("employees.datasource.routed")
+                .description("Connections handed out by the read/write routing data source")
+                .tag("pool", role.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.springboot.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Gives each client read-your-writes consistency across replicas and instances.
+ * <p>
+ * A mutating request sets a short-lived cookie; while it is present, that client's reads are
+ * pinned to the primary. The cookie carries the deadline itself, so no server-side state is
+ * needed and any instance behind the load balancer honours it. The deadline is signed with a
+ * key the instances share, so a client cannot forge one that keeps its reads off the replicas.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "primary-until";
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    private final Duration window;
+
+    private final SecretKeySpec key;
+
+    public ReadYourWritesFilter(Duration window, byte[] key) {
+        this.window = window;
+        this.key = new SecretKeySpec(key, SIGNATURE_ALGORITHM);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long now = System.currentTimeMillis();
+        boolean mutating = isMutating(request.getMethod());
+        if (mutating || pinnedUntil(request) > now) {
+            ReadYourWritesContext.pinToPrimary();
+        }
+        if (mutating) {
+            // Set before the chain runs: the response may be committed by the time it returns.
+            String deadline = String.valueOf(now + window.toMillis());
+            Cookie cookie = new Cookie(COOKIE_NAME, deadline + "." + sign(deadline));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private static boolean isMutating(String method) {
+        return "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method) || "DELETE".equals(method);
+    }
+
+    private long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return verifiedDeadline(cookie.getValue());
+            }
+        }
+        return 0;
+    }
+
+    // A cookie without a valid signature pins nothing.
+    private long verifiedDeadline(String value) {
+        int separator = value.indexOf('.');
+        if (separator < 0) {
+            return 0;
+        }
+        String deadline = value.substring(0, separator);
+        byte[] signature = value.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(signature, sign(deadline).getBytes(StandardCharsets.US_ASCII))) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(deadline);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private String sign(String deadline) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(key);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(deadline.getBytes(StandardCharsets.US_ASCII)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign the " + COOKIE_NAME + " cookie", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.springboot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class EmployeeLookupRequest {
+
+    private List<@NotNull(message = "Lookup ids must not be null") Long> ids;
+    private List<@NotBlank(message = "Lookup emails must not be blank")
+            @Email(message = "Lookup emails must be well-formed email addresses") String> emails;
+
+    @JsonIgnore
+    @AssertTrue(message = "Lookup must contain at least one id or email")
+    public boolean isAnyKeyPresent() {
+        return (ids != null && !ids.isEmpty()) || (emails != null && !emails.isEmpty());
+    }
+}
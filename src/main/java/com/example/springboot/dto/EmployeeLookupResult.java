@@ -0,0 +1,31 @@
+package com.example.springboot.dto;
+
+import com.example.springboot.model.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * One requested id or email and the employee it resolved to; {@code found} is false and
+ * {@code employee} null for a miss.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class EmployeeLookupResult {
+
+    private Long id;
+    private String email;
+    private boolean found;
+    private Employee employee;
+
+    public static EmployeeLookupResult ofId(long id, Employee employee) {
+        return new EmployeeLookupResult(id, null, employee != null, employee);
+    }
+
+    public static EmployeeLookupResult ofEmail(String email, Employee employee) {
+        return new EmployeeLookupResult(null, email, employee != null, employee);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.springboot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * One bucket of a report: the grouping value and the number of employees in it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class GroupCount {
+
+    private String group;
+    private long count;
+}
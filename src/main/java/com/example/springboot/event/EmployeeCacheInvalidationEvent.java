@@ -0,0 +1,17 @@
+package com.example.springboot.event;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cache keys made stale by a committed employee write: employee ids and email addresses.
+ */
+public record EmployeeCacheInvalidationEvent(Set<Long> ids, Set<String> emails) {
+
+    public static EmployeeCacheInvalidationEvent of(long id, String... emails) {
+        return new EmployeeCacheInvalidationEvent(Set.of(id),
+                Arrays.stream(emails).filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet()));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.springboot.event;
+
+import com.example.springboot.model.EmployeeChange;
+
+/**
+ * Published by the employee service for every mutation; listeners that only care about
+ * committed data should use {@code @TransactionalEventListener}.
+ */
+public record EmployeeChangedEvent(EmployeeChange change) {
+}
@@ -0,0 +1,25 @@
+package com.example.springboot.event;
+
+import com.example.springboot.model.Employee;
+
+import java.util.List;
+
+/**
+ * Employee states that a write removed and added, published inside the writing transaction so
+ * that derived tables updated by a plain {@code @EventListener} commit or roll back with it.
+ * An update removes the previous state and adds the new one.
+ */
+public record EmployeeSummaryDeltaEvent(List<Employee> removed, List<Employee> added) {
+
+    public static EmployeeSummaryDeltaEvent added(Employee employee) {
+        return new EmployeeSummaryDeltaEvent(List.of(), List.of(employee));
+    }
+
+    public static EmployeeSummaryDeltaEvent removed(Employee employee) {
+        return new EmployeeSummaryDeltaEvent(List.of(employee), List.of());
+    }
+
+    public static EmployeeSummaryDeltaEvent replaced(Employee previous, Employee current) {
+        return new EmployeeSummaryDeltaEvent(List.of(previous), List.of(current));
+    }
+}
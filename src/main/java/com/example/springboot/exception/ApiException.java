@@ -0,0 +1,22 @@
+package com.example.springboot.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Base type for expected API outcomes (not found, duplicates, bad input).
+ * <p>
+ * These exceptions are part of normal control flow, so they are created without
+ * a stack trace and without suppression support: throwing one costs about as much
+ * as allocating a small object.
+ */
+@Getter
+public abstract class ApiException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    protected ApiException(HttpStatus status, String message) {
+        super(message, null, false, false);
+        this.status = status;
+    }
+}
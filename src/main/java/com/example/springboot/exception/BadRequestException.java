@@ -0,0 +1,10 @@
+package com.example.springboot.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class BadRequestException extends ApiException {
+
+    public BadRequestException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
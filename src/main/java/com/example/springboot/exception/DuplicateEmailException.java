@@ -0,0 +1,10 @@
+package com.example.springboot.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class DuplicateEmailException extends ApiException {
+
+    public DuplicateEmailException() {
+        super(HttpStatus.BAD_REQUEST, "Employee with the same email already exists");
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.springboot.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.validation.method.ParameterValidationResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps every controller failure to an RFC 7807 problem details body.
+ * <p>
+ * Spring MVC's own exceptions (unreadable body, type mismatch, ...) are handled
+ * by {@link ResponseEntityExceptionHandler}; expected outcomes arrive as
+ * {@link ApiException}; anything else is logged and reported as a generic 500
+ * without leaking the underlying message.
+ * <p>
+ * Validation failures carry an {@code errors} property listing every violation
+ * found in the payload, so clients can fix a request in one round trip.
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final String VALIDATION_FAILED = "Validation failed";
+
+    @ExceptionHandler(ApiException.class)
+    public ProblemDetail handleApiException(ApiException ex) {
+        return ProblemDetail.forStatusAndDetail(ex.getStatus(), ex.getMessage());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ProblemDetail handleUnexpectedException(Exception ex) {
+        log.error("Unexpected error while processing request", ex);
+        return ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR,
+                "An unexpected error occurred while processing the request");
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex,
+            HttpHeaders headers, HttpStatusCode status, WebRequest request) {
+
+        List<Map<String, String>> errors = new ArrayList<>();
+        for (FieldError fieldError : ex.getBindingResult().getFieldErrors()) {
+            errors.add(violation(fieldError.getField(), fieldError));
+        }
+        for (MessageSourceResolvable globalError : ex.getBindingResult().getGlobalErrors()) {
+            errors.add(violation(ex.getBindingResult().getObjectName(), globalError));
+        }
+        return handleExceptionInternal(ex, validationProblem(status, errors), headers, status, request);
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleHandlerMethodValidationException(HandlerMethodValidationException ex,
+            HttpHeaders headers, HttpStatusCode status, WebRequest request) {
+
+        List<Map<String, String>> errors = new ArrayList<>();
+        for (ParameterValidationResult result : ex.getParameterValidationResults()) {
+            String prefix = result.getContainerIndex() != null ? "[" + result.getContainerIndex() + "]"
+                    : result.getMethodParameter().getParameterName();
+            if (result instanceof ParameterErrors parameterErrors) {
+                for (FieldError fieldError : parameterErrors.getFieldErrors()) {
+                    errors.add(violation(prefix + "." + fieldError.getField(), fieldError));
+                }
+            } else {
+                for (MessageSourceResolvable error : result.getResolvableErrors()) {
+                    errors.add(violation(prefix, error));
+                }
+            }
+        }
+        return handleExceptionInternal(ex, validationProblem(status, errors), headers, status, request);
+    }
+
+    private static ProblemDetail validationProblem(HttpStatusCode status, List<Map<String, String>> errors) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, VALIDATION_FAILED);
+        problemDetail.setProperty("errors", errors);
+        return problemDetail;
+    }
+
+    private static Map<String, String> violation(String field, MessageSourceResolvable error) {
+        return Map.of("field", field, "message", String.valueOf(error.getDefaultMessage()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.springboot.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ResourceNotFoundException extends ApiException {
+
+    public ResourceNotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, message);
+    }
+
+    public static ResourceNotFoundException employee(long id) {
+        return new ResourceNotFoundException("Employee with ID " + id + " not found");
+    }
+
+    public static ResourceNotFoundException employeeImport(long id) {
+        return new ResourceNotFoundException("Import with ID " + id + " not found");
+    }
+
+    public static ResourceNotFoundException archivedEmployee(long id) {
+        return new ResourceNotFoundException("Archived employee with ID " + id + " not found");
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.springboot.idempotency;
+
+import com.example.springboot.idempotency.IdempotencyStore.Claim;
+import com.example.springboot.idempotency.IdempotencyStore.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes JSON {@code POST} and {@code PUT} requests carrying an {@code Idempotency-Key} header safe
+ * to retry.
+ * <p>
+ * The first request with a key runs normally and its response is stored; a repeat with the same
+ * key, method, path and body gets the stored response, marked with {@code Idempotent-Replayed},
+ * without reaching the controller. A repeat that arrives while the original is still running
+ * waits for it. Reusing a key for a different request is rejected with 422. Server errors are
+ * not stored, so the client's next retry runs the request again. The body is buffered to
+ * fingerprint it, so one larger than the configured limit is rejected with 413 before it is read
+ * in full. Other content types, such as CSV imports, pass through untouched rather than having
+ * their body buffered.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int KEY_MAX_LENGTH = 255;
+
+    private final IdempotencyStore store;
+
+    private final Duration waitTimeout;
+
+    private final DataSize maxBodySize;
+
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(IdempotencyStore store, Duration waitTimeout, DataSize maxBodySize,
+            ObjectMapper objectMapper) {
+        this.store = store;
+        this.waitTimeout = waitTimeout;
+        this.maxBodySize = maxBodySize;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return request.getHeader(HEADER) == null
+                || !("POST".equals(method) || "PUT".equals(method))
+                || !isJson(request.getContentType());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > KEY_MAX_LENGTH) {
+            writeProblem(response, HttpStatus.BAD_REQUEST,
+                    "Header '" + HEADER + "' must be between 1 and " + KEY_MAX_LENGTH + " characters");
+            return;
+        }
+        long limit = maxBodySize.toBytes();
+        if (request.getContentLengthLong() > limit) {
+            writeBodyTooLarge(response);
+            return;
+        }
+        // Chunked bodies declare no length, so read at most one byte past the limit to notice them.
+        byte[] body = request.getInputStream().readNBytes((int) Math.min(limit + 1, Integer.MAX_VALUE - 8));
+        if (body.length > limit) {
+            writeBodyTooLarge(response);
+            return;
+        }
+        String fingerprint = fingerprint(request, body);
+
+        while (true) {
+            Claim mine = new Claim(fingerprint, new CompletableFuture<>());
+            Claim existing = store.putIfAbsent(key, mine);
+            if (existing == null) {
+                execute(key, mine, new CachedBodyRequest(request, body), response, filterChain);
+                return;
+            }
+            if (!existing.fingerprint().equals(fingerprint)) {
+                writeProblem(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Header '" + HEADER + "' was already used for a different request");
+                return;
+            }
+            StoredResponse stored;
+            try {
+                stored = existing.response().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                writeProblem(response, HttpStatus.CONFLICT,
+                        "A request with the same '" + HEADER + "' is still being processed");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            } catch (ExecutionException e) {
+                throw new ServletException(e.getCause());
+            }
+            if (stored != null) {
+                replay(stored, response);
+                return;
+            }
+            // The original failed and released the key; try to claim it for this request.
+        }
+    }
+
+    private void execute(String key, Claim claim, HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        ContentCachingResponseWrapper caching = new ContentCachingResponseWrapper(response);
+        StoredResponse stored = null;
+        try {
+            filterChain.doFilter(request, caching);
+            if (caching.getStatus() < 500) {
+                stored = new StoredResponse(caching.getStatus(), storedHeaders(caching),
+                        caching.getContentAsByteArray());
+            }
+        } finally {
+            if (stored != null) {
+                store.complete(key, claim, stored);
+            } else {
+                store.release(key, claim);
+            }
+        }
+        caching.copyBodyToResponse();
+    }
+
+    private static Map<String, List<String>> storedHeaders(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        if (response.getContentType() != null) {
+            headers.put(HttpHeaders.CONTENT_TYPE, List.of(response.getContentType()));
+        }
+        Collection<String> location = response.getHeaders(HttpHeaders.LOCATION);
+        if (!location.isEmpty()) {
+            headers.put(HttpHeaders.LOCATION, List.copyOf(location));
+        }
+        return headers;
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeBodyTooLarge(HttpServletResponse response) throws IOException {
+        writeProblem(response, HttpStatus.PAYLOAD_TOO_LARGE,
+                "Requests with header '" + HEADER + "' must not have a body larger than " + maxBodySize.toBytes() + " bytes");
+    }
+
+    private void writeProblem(HttpServletResponse response, HttpStatus status, String detail) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ProblemDetail.forStatusAndDetail(status, detail));
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String query = request.getQueryString();
+            String target = request.getMethod() + ' ' + request.getRequestURI() + (query == null ? "" : "?" + query);
+            digest.update((target + '\n').getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isJson(String contentType) {
+        try {
+            return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Replays a body that has already been read to compute the fingerprint.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // The whole body is already in memory, so it is available and complete right away.
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+}
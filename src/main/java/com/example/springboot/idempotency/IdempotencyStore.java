@@ -0,0 +1,86 @@
+package com.example.springboot.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers the response to each idempotency key for a bounded time and number of keys.
+ * <p>
+ * A key is claimed before its request runs, so a concurrent duplicate finds the in-flight
+ * claim and waits on its future instead of running the request again. In-flight claims live
+ * outside the bounded cache and are never evicted, otherwise a burst of other keys could push
+ * one out and let its duplicate run concurrently; only completed responses are bounded and
+ * expire. A claim whose request fails is released, completing the future with {@code null},
+ * so waiting duplicates and later retries start over. The store is local to this instance;
+ * duplicates routed to another instance are not detected.
+ */
+public class IdempotencyStore {
+
+    private final ConcurrentMap<String, Claim> pending = new ConcurrentHashMap<>();
+
+    private final Cache<String, Claim> completed;
+
+    public IdempotencyStore(int maxEntries, Duration ttl) {
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * A response as it was sent, replayed byte for byte to duplicates.
+     */
+    public record StoredResponse(int status, Map<String, List<String>> headers, byte[] body) {
+    }
+
+    /**
+     * The request that first used a key, identified by its fingerprint, and its eventual response.
+     */
+    public record Claim(String fingerprint, CompletableFuture<StoredResponse> response) {
+    }
+
+    /**
+     * Claims {@code key} with {@code claim} unless another claim holds it. Returns {@code null} if the
+     * caller now owns the key and must {@link #complete} or {@link #release} it, otherwise the existing claim.
+     */
+    public Claim putIfAbsent(String key, Claim claim) {
+        Claim[] existing = new Claim[1];
+        // Runs under the key's lock in the pending map, so it cannot interleave with complete moving the key over.
+        pending.compute(key, (k, inFlight) -> {
+            if (inFlight != null) {
+                existing[0] = inFlight;
+                return inFlight;
+            }
+            existing[0] = completed.getIfPresent(k);
+            return existing[0] == null ? claim : null;
+        });
+        return existing[0];
+    }
+
+    public void complete(String key, Claim claim, StoredResponse response) {
+        pending.computeIfPresent(key, (k, inFlight) -> {
+            if (inFlight != claim) {
+                return inFlight;
+            }
+            completed.put(k, claim);
+            return null;
+        });
+        claim.response().complete(response);
+    }
+
+    public void release(String key, Claim claim) {
+        pending.remove(key, claim);
+        claim.response().complete(null);
+    }
+
+    public long size() {
+        return pending.size() + completed.estimatedSize();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.springboot.importer;
+
+import com.example.springboot.exception.BadRequestException;
+import com.example.springboot.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Column layout of an employee CSV file, taken from its header row.
+ * <p>
+ * Header names are matched ignoring case, spaces and underscores, so {@code first_name},
+ * {@code First Name} and {@code firstName} are equivalent; other columns are ignored. Fields
+ * follow RFC 4180 quoting, except that a quoted field cannot span lines.
+ */
+public final class EmployeeCsvFormat {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final int firstNameColumn;
+
+    private final int lastNameColumn;
+
+    private final int emailColumn;
+
+    private EmployeeCsvFormat(int firstNameColumn, int lastNameColumn, int emailColumn) {
+        this.firstNameColumn = firstNameColumn;
+        this.lastNameColumn = lastNameColumn;
+        this.emailColumn = emailColumn;
+    }
+
+    public static EmployeeCsvFormat fromHeader(String header) {
+        if (header == null) {
+            throw new BadRequestException("CSV file is empty");
+        }
+        if (!header.isEmpty() && header.charAt(0) == BYTE_ORDER_MARK) {
+            header = header.substring(1);
+        }
+        List<String> columns = split(header).stream()
+                .map(column -> column.replaceAll("[\\s_]", "").toLowerCase(Locale.ROOT))
+                .toList();
+        return new EmployeeCsvFormat(column(columns, "firstname"), column(columns, "lastname"),
+                column(columns, "email"));
+    }
+
+    /**
+     * Parses one data line. Throws {@link IllegalArgumentException} with a reject reason if the
+     * line cannot be split into the expected columns; the values themselves are not validated.
+     */
+    public Employee parse(String line) {
+        List<String> fields = split(line);
+        int required = Math.max(firstNameColumn, Math.max(lastNameColumn, emailColumn)) + 1;
+        if (fields.size() < required) {
+            throw new IllegalArgumentException("Expected at least " + required + " columns but found " + fields.size());
+        }
+        return Employee.builder()
+                .firstName(fields.get(firstNameColumn))
+                .lastName(fields.get(lastNameColumn))
+                .email(fields.get(emailColumn))
+                .build();
+    }
+
+    /**
+     * Quotes {@code value} for a CSV field if it contains a separator, quote or line break.
+     */
+    public static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(wasQuoted ? field.toString() : field.toString().trim());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '"' && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+                wasQuoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(wasQuoted ? field.toString() : field.toString().trim());
+        return fields;
+    }
+
+    private static int column(List<String> columns, String name) {
+        int index = columns.indexOf(name);
+        if (index < 0) {
+            throw new BadRequestException("CSV header must contain the columns firstName, lastName and email");
+        }
+        return index;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.springboot.importer;
+
+import com.example.springboot.config.ImportProperties;
+import com.example.springboot.model.EmployeeImport;
+import com.example.springboot.model.ImportStatus;
+import com.example.springboot.service.EmployeeImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports {@code employees.import.file} at startup, writes the rejected rows next to it as
+ * {@code <file>.rejects.csv} and exits with status 0 if the import completed, 1 otherwise; the
+ * application's {@code main} closes the context and exits with that status once startup is done.
+ * Running the same command again after a failure resumes the import. For example:
+ * <pre>
+ * java -jar app.jar --spring.main.web-application-type=none --employees.import.file=/data/employees.csv
+ * </pre>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employees.import.file")
+@RequiredArgsConstructor
+public class EmployeeImportRunner implements CommandLineRunner, ExitCodeGenerator {
+
+    private final EmployeeImportService employeeImportService;
+
+    private final ImportProperties importProperties;
+
+    private volatile int exitCode = 1;
+
+    @Override
+    public void run(String... args) throws Exception {
+        Path file = importProperties.getFile();
+        EmployeeImport employeeImport = employeeImportService.importFile(file);
+        Path report = file.resolveSibling(file.getFileName() + ".rejects.csv");
+        try (Writer writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+            employeeImportService.writeRejectReport(employeeImport.getId(), writer);
+        }
+        log.info("Import {} of {} finished as {}: {} employees imported, {} rows rejected (see {})",
+                employeeImport.getId(), file, employeeImport.getStatus(), employeeImport.getImportedRows(),
+                employeeImport.getRejectedRows(), report);
+        exitCode = employeeImport.getStatus() == ImportStatus.COMPLETED ? 0 : 1;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
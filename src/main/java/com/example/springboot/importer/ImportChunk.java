@@ -0,0 +1,26 @@
+package com.example.springboot.importer;
+
+import com.example.springboot.model.Employee;
+
+import java.util.List;
+
+/**
+ * A parsed and validated slice of an import file; {@code lastLine} is the line the import can
+ * resume after once this chunk is committed, even if trailing lines were blank.
+ */
+public record ImportChunk(long lastLine, List<Row> rows) {
+
+    /**
+     * One input line with either the employee parsed from it or the reason it was rejected.
+     */
+    public record Row(long lineNumber, String line, Employee employee, String rejectReason) {
+
+        public static Row accepted(long lineNumber, String line, Employee employee) {
+            return new Row(lineNumber, line, employee, null);
+        }
+
+        public static Row rejected(long lineNumber, String line, String reason) {
+            return new Row(lineNumber, line, null, reason);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.springboot.importer;
+
+import com.example.springboot.config.ImportProperties;
+import com.example.springboot.event.EmployeeSummaryDeltaEvent;
+import com.example.springboot.model.ChangeType;
+import com.example.springboot.model.Employee;
+import com.example.springboot.model.EmployeeImport;
+import com.example.springboot.model.EmployeeImportReject;
+import com.example.springboot.repository.EmployeeImportRejectRepository;
+import com.example.springboot.repository.EmployeeImportRepository;
+import com.example.springboot.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Commits one {@link ImportChunk}: drops rows whose email already exists or repeats within the
+ * chunk, inserts the rest together with their outbox rows, records the rejects and advances the
+ * import's checkpoint, all in one transaction.
+ * <p>
+ * Employees and outbox rows use identity keys, which stop Hibernate from batching inserts, so
+ * they are written with JDBC batches instead; the outbox rows have the same shape as those from
+ * {@code EmployeeChangeService.recordCreated}. No in-process change events are published, so an
+ * import reaches the change feed and the snapshot through the outbox only, not the live stream;
+ * only the summary delta of the whole chunk is published, for the report summary tables.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImportChunkWriter {
+
+    private static final String INSERT_EMPLOYEE =
+            "INSERT INTO employees (first_name, last_name, email) VALUES (?, ?, ?)";
+
+    private static final String INSERT_CHANGE = "INSERT INTO employee_changes "
+            + "(employee_id, type, first_name, last_name, email, occurred_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final EmployeeRepository employeeRepository;
+
+    private final EmployeeImportRepository employeeImportRepository;
+
+    private final EmployeeImportRejectRepository employeeImportRejectRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ImportProperties importProperties;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public EmployeeImport write(long importId, ImportChunk chunk) {
+        Set<String> existing = findExistingEmails(chunk);
+        Map<String, Long> firstSeen = new HashMap<>();
+        List<Employee> accepted = new ArrayList<>();
+        List<EmployeeImportReject> rejects = new ArrayList<>();
+        for (ImportChunk.Row row : chunk.rows()) {
+            String reason = row.rejectReason();
+            if (reason == null) {
+                String email = row.employee().getEmail();
+                if (existing.contains(email)) {
+                    reason = "Employee with the same email already exists";
+                } else {
+                    Long previous = firstSeen.putIfAbsent(email, row.lineNumber());
+                    if (previous != null) {
+                        reason = "Duplicate email, first seen on line " + previous;
+                    }
+                }
+            }
+            if (reason == null) {
+                accepted.add(row.employee());
+            } else {
+                rejects.add(reject(importId, row, reason));
+            }
+        }
+
+        insertEmployees(accepted);
+        insertCreatedChanges(accepted);
+        if (!accepted.isEmpty()) {
+            eventPublisher.publishEvent(new EmployeeSummaryDeltaEvent(List.of(), accepted));
+        }
+        employeeImportRejectRepository.saveAll(rejects);
+
+        EmployeeImport employeeImport = employeeImportRepository.findById(importId).orElseThrow();
+        employeeImport.setCommittedLine(chunk.lastLine());
+        employeeImport.setImportedRows(employeeImport.getImportedRows() + accepted.size());
+        employeeImport.setRejectedRows(employeeImport.getRejectedRows() + rejects.size());
+        employeeImport.setUpdatedAt(Instant.now());
+        return employeeImport;
+    }
+
+    private Set<String> findExistingEmails(ImportChunk chunk) {
+        List<String> emails = chunk.rows().stream()
+                .filter(row -> row.employee() != null)
+                .map(row -> row.employee().getEmail())
+                .distinct()
+                .toList();
+        Set<String> existing = new HashSet<>();
+        int batchSize = importProperties.getLookupBatchSize();
+        for (int from = 0; from < emails.size(); from += batchSize) {
+            existing.addAll(employeeRepository.findExistingEmails(
+                    emails.subList(from, Math.min(from + batchSize, emails.size()))));
+        }
+        return existing;
+    }
+
+    private void insertEmployees(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_EMPLOYEE, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Employee employee = employees.get(i);
+                        ps.setString(1, employee.getFirstName());
+                        ps.setString(2, employee.getLastName());
+                        ps.setString(3, employee.getEmail());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return employees.size();
+                    }
+                }, keys);
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        for (int i = 0; i < employees.size(); i++) {
+            employees.get(i).setId(((Number) keyList.get(i).values().iterator().next()).intValue());
+        }
+    }
+
+    private void insertCreatedChanges(List<Employee> employees) {
+        Timestamp occurredAt = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, employees, employees.size(), (ps, employee) -> {
+            ps.setLong(1, employee.getId());
+            ps.setString(2, ChangeType.CREATED.name());
+            ps.setString(3, employee.getFirstName());
+            ps.setString(4, employee.getLastName());
+            ps.setString(5, employee.getEmail());
+            ps.setTimestamp(6, occurredAt);
+        });
+    }
+
+    private static EmployeeImportReject reject(long importId, ImportChunk.Row row, String reason) {
+        return EmployeeImportReject.builder()
+                .importId(importId)
+                .lineNumber(row.lineNumber())
+                .reason(truncate(reason, EmployeeImportReject.REASON_MAX_LENGTH))
+                .row(truncate(row.line(), EmployeeImportReject.ROW_MAX_LENGTH))
+                .build();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+}
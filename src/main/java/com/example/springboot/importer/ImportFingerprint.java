@@ -0,0 +1,20 @@
+package com.example.springboot.importer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Identifies the content of an import file well enough to tell whether a failed import may be
+ * resumed from it: a file replaced at the same path, such as a nightly dump, gets a different
+ * size or modification time.
+ */
+public final class ImportFingerprint {
+
+    private ImportFingerprint() {
+    }
+
+    public static String of(Path file) throws IOException {
+        return Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A deleted {@link Employee}, moved out of the {@code employees} table so the active rows stay
+ * compact. The id is the one the employee had while active.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Builder
+@Entity
+@Table(name = "employees_archive", indexes = {
+        @Index(name = "idx_employees_archive_email", columnList = "email")
+})
+public class ArchivedEmployee {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "first_name", nullable = false, length = Employee.NAME_MAX_LENGTH)
+    private String firstName;
+
+    @Column(name = "last_name", nullable = false, length = Employee.NAME_MAX_LENGTH)
+    private String lastName;
+
+    @Column(name = "email", nullable = false, length = Employee.EMAIL_MAX_LENGTH)
+    private String email;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,33 @@
+package com.example.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * One cache key invalidated by a write, read by every instance polling the change-version table.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Builder
+@Entity
+@Table(name = "cache_invalidations")
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long version;
+
+    @Column(name = "cache_name", nullable = false, length = 64)
+    private String cacheName;
+
+    @Column(name = "cache_key", nullable = false, length = Employee.EMAIL_MAX_LENGTH)
+    private String cacheKey;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
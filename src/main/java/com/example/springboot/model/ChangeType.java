@@ -0,0 +1,7 @@
+package com.example.springboot.model;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,26 @@
+package com.example.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Summary row holding the number of employees per email domain, kept up to date on every write
+ * when {@code employees.reports.summary-tables} is enabled.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Builder
+@Entity
+@Table(name = "employee_counts_by_email_domain")
+public class EmailDomainCount {
+
+    @Id
+    @Column(name = "domain", length = Employee.EMAIL_MAX_LENGTH)
+    private String domain;
+
+    @Column(name = "employee_count", nullable = false)
+    private long employeeCount;
+}
@@ -1,7 +1,15 @@
 package com.example.springboot.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.Instant;
 
 @Setter
 @Getter
@@ -10,19 +18,55 @@ import lombok.*;
 @ToString
 @Builder
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+        @Index(name = "idx_employees_email", columnList = "email"),
+        @Index(name = "idx_employees_deleted_at", columnList = "deleted_at")
+})
+@SQLDelete(sql = "UPDATE employees SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
 public class Employee {
 
+    public static final int NAME_MAX_LENGTH = 100;
+    public static final int EMAIL_MAX_LENGTH = 255;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
-    @Column(name = "first_name"  , nullable = false)
+    @NotBlank(message = "First Name is required")
+    @Size(max = NAME_MAX_LENGTH, message = "First Name must be at most " + NAME_MAX_LENGTH + " characters")
+    @Column(name = "first_name"  , nullable = false, length = NAME_MAX_LENGTH)
     private String firstName;
 
-    @Column(name = "last_name", nullable = false)
+    @NotBlank(message = "Last Name is required")
+    @Size(max = NAME_MAX_LENGTH, message = "Last Name must be at most " + NAME_MAX_LENGTH + " characters")
+    @Column(name = "last_name", nullable = false, length = NAME_MAX_LENGTH)
     private String lastName;
 
-    @Column(name = "email", unique = true, nullable = false)
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email must be a well-formed email address")
+    @Size(max = EMAIL_MAX_LENGTH, message = "Email must be at most " + EMAIL_MAX_LENGTH + " characters")
+    @Column(name = "email", nullable = false, length = EMAIL_MAX_LENGTH)
     private String email;
+
+    // Deleting an employee only sets this, through @SQLDelete and never from the entity; deleted rows are
+    // hidden from every query and later moved to employees_archive by EmployeeArchiveTask.
+    @JsonIgnore
+    @Column(name = "deleted_at", insertable = false, updatable = false)
+    private Instant deletedAt;
+
+    // Email is unique among active employees only, so a deleted employee's address can be reused before
+    // the row is archived. H2 has no partial unique index; a unique column that turns null on delete does the same.
+    @JsonIgnore
+    @Column(name = "active_email", unique = true, insertable = false, updatable = false,
+            columnDefinition = "varchar(" + EMAIL_MAX_LENGTH + ") generated always as "
+                    + "(case when deleted_at is null then email end)")
+    private String activeEmail;
+
+    public Employee(Integer id, String firstName, String lastName, String email) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+    }
 }
@@ -0,0 +1,50 @@
+package com.example.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Outbox row describing one committed mutation of an {@link Employee}.
+ * <p>
+ * Rows are written in the same transaction as the mutation and ordered by
+ * {@code seq}, so consumers can resume from the last sequence they processed.
+ * {@code DELETED} rows only carry the employee id.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Builder
+@Entity
+@Table(name = "employee_changes", indexes = {
+        @Index(name = "idx_employee_changes_employee_id", columnList = "employee_id"),
+        @Index(name = "idx_employee_changes_occurred_at", columnList = "occurred_at")
+})
+public class EmployeeChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 16)
+    private ChangeType type;
+
+    @Column(name = "first_name", length = Employee.NAME_MAX_LENGTH)
+    private String firstName;
+
+    @Column(name = "last_name", length = Employee.NAME_MAX_LENGTH)
+    private String lastName;
+
+    @Column(name = "email", length = Employee.EMAIL_MAX_LENGTH)
+    private String email;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+}
@@ -0,0 +1,61 @@
+package com.example.springboot.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Progress of one bulk CSV import.
+ * <p>
+ * {@code committedLine} is the last line of the input whose chunk has been committed, together
+ * with its employees, rejects and these counters; a failed import resumes after it.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Builder
+@Entity
+@Table(name = "employee_imports")
+public class EmployeeImport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source", nullable = false, length = 1000)
+    private String source;
+
+    // Size and modification time of the source when the import started; a changed file is not resumed.
+    @JsonIgnore
+    @Column(name = "source_fingerprint", length = 100)
+    private String sourceFingerprint;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private ImportStatus status;
+
+    @Column(name = "committed_line", nullable = false)
+    private long committedLine;
+
+    @Column(name = "imported_rows", nullable = false)
+    private long importedRows;
+
+    @Column(name = "rejected_rows", nullable = false)
+    private long rejectedRows;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+}
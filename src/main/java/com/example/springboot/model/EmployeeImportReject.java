@@ -0,0 +1,40 @@
+package com.example.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * An input row that a bulk import did not store, with the reason and the row as it was sent.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Builder
+@Entity
+@Table(name = "employee_import_rejects", indexes = {
+        @Index(name = "idx_employee_import_rejects_import_line", columnList = "import_id, line_number")
+})
+public class EmployeeImportReject {
+
+    public static final int REASON_MAX_LENGTH = 1000;
+
+    public static final int ROW_MAX_LENGTH = 2000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "import_id", nullable = false)
+    private Long importId;
+
+    @Column(name = "line_number", nullable = false)
+    private long lineNumber;
+
+    @Column(name = "reason", nullable = false, length = REASON_MAX_LENGTH)
+    private String reason;
+
+    @Column(name = "row_content", length = ROW_MAX_LENGTH)
+    private String row;
+}
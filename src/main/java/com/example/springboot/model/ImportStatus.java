@@ -0,0 +1,8 @@
+package com.example.springboot.model;
+
+public enum ImportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,26 @@
+package com.example.springboot.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Summary row holding the number of employees per last-name initial, kept up to date on every
+ * write when {@code employees.reports.summary-tables} is enabled.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Builder
+@Entity
+@Table(name = "employee_counts_by_last_name_initial")
+public class LastNameInitialCount {
+
+    @Id
+    @Column(name = "last_name_initial", length = 2)
+    private String initial;
+
+    @Column(name = "employee_count", nullable = false)
+    private long employeeCount;
+}
@@ -0,0 +1,144 @@
+package com.example.springboot.report;
+
+import com.example.springboot.event.EmployeeSummaryDeltaEvent;
+import com.example.springboot.model.EmailDomainCount;
+import com.example.springboot.model.Employee;
+import com.example.springboot.model.LastNameInitialCount;
+import com.example.springboot.repository.EmailDomainCountRepository;
+import com.example.springboot.repository.EmployeeRepository;
+import com.example.springboot.repository.LastNameInitialCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Keeps employee counts per email domain and per last-name initial in summary tables, so reports
+ * read one row per group instead of scanning every employee.
+ * <p>
+ * The tables are filled from the employees table at startup when they are empty and then adjusted
+ * by the delta of every write, inside the writing transaction, so they never disagree with
+ * committed data. Tables that are already populated are left alone: other instances keep them
+ * current, and a rebuild racing their deltas could count a write twice or drop it. Deltas
+ * are applied in key order, so concurrent writers lock summary rows in the same order and cannot
+ * deadlock; writers that hit the same group do serialize on its row until they commit.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employees.reports.summary-tables", havingValue = "true")
+public class EmployeeSummaryTables implements SmartInitializingSingleton {
+
+    private static final String MERGE_EMAIL_DOMAIN = "MERGE INTO employee_counts_by_email_domain t "
+            + "USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS BIGINT))) s(group_key, delta) "
+            + "ON t.domain = s.group_key "
+            + "WHEN MATCHED THEN UPDATE SET employee_count = t.employee_count + s.delta "
+            + "WHEN NOT MATCHED THEN INSERT (domain, employee_count) VALUES (s.group_key, s.delta)";
+
+    private static final String MERGE_LAST_NAME_INITIAL = "MERGE INTO employee_counts_by_last_name_initial t "
+            + "USING (VALUES (CAST(? AS VARCHAR(2)), CAST(? AS BIGINT))) s(group_key, delta) "
+            + "ON t.last_name_initial = s.group_key "
+            + "WHEN MATCHED THEN UPDATE SET employee_count = t.employee_count + s.delta "
+            + "WHEN NOT MATCHED THEN INSERT (last_name_initial, employee_count) VALUES (s.group_key, s.delta)";
+
+    private final EmployeeRepository employeeRepository;
+
+    private final EmailDomainCountRepository emailDomainCountRepository;
+
+    private final LastNameInitialCountRepository lastNameInitialCountRepository;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public EmployeeSummaryTables(EmployeeRepository employeeRepository,
+            EmailDomainCountRepository emailDomainCountRepository,
+            LastNameInitialCountRepository lastNameInitialCountRepository, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.emailDomainCountRepository = emailDomainCountRepository;
+        this.lastNameInitialCountRepository = lastNameInitialCountRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (emailDomainCountRepository.count() > 0 || lastNameInitialCountRepository.count() > 0) {
+            log.info("Employee summary tables are already populated; not rebuilding");
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * Recomputes both tables with one GROUP BY each; needed after employees were changed without
+     * going through the service. Deltas committed by other instances while it runs can be lost, so
+     * run it only while no instance is writing employees.
+     */
+    public void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> {
+            emailDomainCountRepository.deleteAllInBatch();
+            lastNameInitialCountRepository.deleteAllInBatch();
+            emailDomainCountRepository.saveAll(employeeRepository.countByEmailDomain(Limit.unlimited()).stream()
+                    .map(count -> new EmailDomainCount(count.getGroup(), count.getCount()))
+                    .toList());
+            lastNameInitialCountRepository.saveAll(employeeRepository.countByLastNameInitial().stream()
+                    .map(count -> new LastNameInitialCount(count.getGroup(), count.getCount()))
+                    .toList());
+        });
+        log.info("Rebuilt employee summary tables: {} email domains, {} last-name initials",
+                emailDomainCountRepository.count(), lastNameInitialCountRepository.count());
+    }
+
+    @EventListener
+    public void onEmployeeWrite(EmployeeSummaryDeltaEvent delta) {
+        apply(MERGE_EMAIL_DOMAIN, deltas(delta, employee -> emailDomain(employee.getEmail())));
+        apply(MERGE_LAST_NAME_INITIAL, deltas(delta, employee -> lastNameInitial(employee.getLastName())));
+    }
+
+    /**
+     * Same value as the email-domain grouping expression in {@link EmployeeRepository#countByEmailDomain}.
+     */
+    static String emailDomain(String email) {
+        return email.substring(email.indexOf('@') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Same value as the grouping expression in {@link EmployeeRepository#countByLastNameInitial}.
+     */
+    static String lastNameInitial(String lastName) {
+        return lastName.isEmpty() ? "" : lastName.substring(0, 1).toUpperCase(Locale.ROOT);
+    }
+
+    private static SortedMap<String, Long> deltas(EmployeeSummaryDeltaEvent delta, Function<Employee, String> group) {
+        SortedMap<String, Long> deltas = new TreeMap<>();
+        delta.removed().forEach(employee -> deltas.merge(group.apply(employee), -1L, Long::sum));
+        delta.added().forEach(employee -> deltas.merge(group.apply(employee), 1L, Long::sum));
+        deltas.values().removeIf(count -> count == 0);
+        return deltas;
+    }
+
+    private void apply(String sql, SortedMap<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(sql, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.getKey());
+            ps.setLong(2, entry.getValue());
+        });
+    }
+}
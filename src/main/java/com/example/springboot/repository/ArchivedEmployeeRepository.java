@@ -0,0 +1,26 @@
+package com.example.springboot.repository;
+
+import com.example.springboot.model.ArchivedEmployee;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedEmployeeRepository extends JpaRepository<ArchivedEmployee, Long> {
+
+    List<ArchivedEmployee> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
+
+    List<ArchivedEmployee> findByEmailAndIdGreaterThanOrderByIdAsc(String email, Integer id, Limit limit);
+
+    // Rows another run has already archived are skipped rather than failing on the archive's primary key.
+    @Modifying
+    @Query(value = "INSERT INTO employees_archive (id, first_name, last_name, email, deleted_at, archived_at) "
+            + "SELECT id, first_name, last_name, email, deleted_at, ?2 FROM employees "
+            + "WHERE deleted_at IS NOT NULL AND id IN ?1 "
+            + "AND NOT EXISTS (SELECT 1 FROM employees_archive a WHERE a.id = employees.id)", nativeQuery = true)
+    int copyDeletedEmployees(Collection<Integer> ids, Instant archivedAt);
+}
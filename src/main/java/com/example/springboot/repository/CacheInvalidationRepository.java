@@ -0,0 +1,27 @@
+package com.example.springboot.repository;
+
+import com.example.springboot.model.CacheInvalidation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    List<CacheInvalidation> findByVersionGreaterThanOrderByVersionAsc(long version, Limit limit);
+
+    List<CacheInvalidation> findByVersionIn(Collection<Long> versions);
+
+    @Query(value = "SELECT COALESCE(MAX(c.version), 0) FROM CacheInvalidation c")
+    long findLatestVersion();
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM CacheInvalidation c WHERE c.createdAt < ?1")
+    int deleteOlderThan(Instant cutoff);
+}
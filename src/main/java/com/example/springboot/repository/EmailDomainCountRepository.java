@@ -0,0 +1,16 @@
+package com.example.springboot.repository;
+
+import com.example.springboot.dto.GroupCount;
+import com.example.springboot.model.EmailDomainCount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface EmailDomainCountRepository extends JpaRepository<EmailDomainCount, String> {
+
+    @Query("SELECT new com.example.springboot.dto.GroupCount(c.domain, c.employeeCount) FROM EmailDomainCount c "
+            + "WHERE c.employeeCount > 0 ORDER BY c.employeeCount DESC, c.domain")
+    List<GroupCount> findCounts(Limit limit);
+}
@@ -0,0 +1,31 @@
+package com.example.springboot.repository;
+
+import com.example.springboot.model.EmployeeChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface EmployeeChangeRepository extends JpaRepository<EmployeeChange, Long> {
+
+    List<EmployeeChange> findBySeqGreaterThanOrderBySeqAsc(long seq, Limit limit);
+
+    @Query(value = "SELECT COALESCE(MAX(c.seq), 0) FROM EmployeeChange c")
+    long findLatestSeq();
+
+    @Query(value = "SELECT COALESCE(MAX(c.seq), 0) FROM EmployeeChange c WHERE c.occurredAt <= ?1")
+    long findLatestSeqOccurredAtOrBefore(Instant instant);
+
+    // Keeps only the newest change per employee among rows older than the horizon.
+    @Modifying
+    @Query(value = "DELETE FROM EmployeeChange c WHERE c.occurredAt < ?1 AND EXISTS "
+            + "(SELECT n.seq FROM EmployeeChange n WHERE n.employeeId = c.employeeId AND n.seq > c.seq)")
+    int deleteSupersededOlderThan(Instant horizon);
+
+    @Modifying
+    @Query(value = "DELETE FROM EmployeeChange c WHERE c.occurredAt < ?1")
+    int deleteOlderThan(Instant cutoff);
+}
@@ -0,0 +1,13 @@
+package com.example.springboot.repository;
+
+import com.example.springboot.model.EmployeeImportReject;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface EmployeeImportRejectRepository extends JpaRepository<EmployeeImportReject, Long> {
+
+    List<EmployeeImportReject> findByImportIdAndLineNumberGreaterThanOrderByLineNumberAsc(long importId, long lineNumber,
+            Limit limit);
+}
@@ -0,0 +1,13 @@
+package com.example.springboot.repository;
+
+import com.example.springboot.model.EmployeeImport;
+import com.example.springboot.model.ImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface EmployeeImportRepository extends JpaRepository<EmployeeImport, Long> {
+
+    Optional<EmployeeImport> findFirstBySourceAndStatusInOrderByIdDesc(String source, Collection<ImportStatus> statuses);
+}
@@ -1,13 +1,47 @@
 package com.example.springboot.repository;
 
+import com.example.springboot.dto.GroupCount;
 import com.example.springboot.model.Employee;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     @Query(value = "SELECT e from Employee e WHERE e.email = ?1")
     Optional<Employee> findByEmail(String email);
+
+    List<Employee> findByIdIn(Collection<Integer> ids);
+
+    List<Employee> findByEmailIn(Collection<String> emails);
+
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
+
+    @Query(value = "SELECT e.email FROM Employee e WHERE e.email IN ?1")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    // The grouping expressions must match EmployeeSummaryTables.emailDomain and lastNameInitial.
+    @Query(value = "SELECT new com.example.springboot.dto.GroupCount("
+            + "LOWER(SUBSTRING(e.email, LOCATE('@', e.email) + 1)), COUNT(e)) FROM Employee e "
+            + "GROUP BY LOWER(SUBSTRING(e.email, LOCATE('@', e.email) + 1)) "
+            + "ORDER BY COUNT(e) DESC, LOWER(SUBSTRING(e.email, LOCATE('@', e.email) + 1))")
+    List<GroupCount> countByEmailDomain(Limit limit);
+
+    @Query(value = "SELECT new com.example.springboot.dto.GroupCount(UPPER(SUBSTRING(e.lastName, 1, 1)), COUNT(e)) "
+            + "FROM Employee e GROUP BY UPPER(SUBSTRING(e.lastName, 1, 1)) ORDER BY UPPER(SUBSTRING(e.lastName, 1, 1))")
+    List<GroupCount> countByLastNameInitial();
+
+    // Deleted rows are only reachable through native queries, the entity's restriction hides them from JPQL.
+    // The batch is locked so that a concurrent archive run on another instance waits for it instead of copying it too.
+    @Query(value = "SELECT id FROM employees WHERE deleted_at IS NOT NULL LIMIT ?1 FOR UPDATE", nativeQuery = true)
+    List<Integer> findDeletedIds(int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM employees WHERE deleted_at IS NOT NULL AND id IN ?1", nativeQuery = true)
+    int purgeDeleted(Collection<Integer> ids);
 }
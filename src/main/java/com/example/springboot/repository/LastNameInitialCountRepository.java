@@ -0,0 +1,15 @@
+package com.example.springboot.repository;
+
+import com.example.springboot.dto.GroupCount;
+import com.example.springboot.model.LastNameInitialCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface LastNameInitialCountRepository extends JpaRepository<LastNameInitialCount, String> {
+
+    @Query("SELECT new com.example.springboot.dto.GroupCount(c.initial, c.employeeCount) FROM LastNameInitialCount c "
+            + "WHERE c.employeeCount > 0 ORDER BY c.initial")
+    List<GroupCount> findCounts();
+}
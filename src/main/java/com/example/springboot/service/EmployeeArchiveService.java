@@ -0,0 +1,22 @@
+package com.example.springboot.service;
+
+import com.example.springboot.model.ArchivedEmployee;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface EmployeeArchiveService {
+
+    /**
+     * Moves up to {@code batchSize} deleted employees into the archive and returns how many were moved.
+     * Several instances may run it at once: the batch is locked until the move commits, and a run that
+     * waited on it moves nothing rather than archiving the same employees twice.
+     */
+    int archiveDeleted(int batchSize);
+
+    List<ArchivedEmployee> getArchivedEmployees(long since, int limit);
+
+    List<ArchivedEmployee> getArchivedEmployeesByEmail(String email, long since, int limit);
+
+    Optional<ArchivedEmployee> getArchivedEmployee(long id);
+}
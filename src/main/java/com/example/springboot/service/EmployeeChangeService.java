@@ -0,0 +1,24 @@
+package com.example.springboot.service;
+
+import com.example.springboot.model.Employee;
+import com.example.springboot.model.EmployeeChange;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface EmployeeChangeService {
+
+    EmployeeChange recordCreated(Employee employee);
+
+    EmployeeChange recordUpdated(Employee employee);
+
+    EmployeeChange recordDeleted(long employeeId);
+
+    List<EmployeeChange> getChangesSince(long since, int limit);
+
+    long getLatestSeq();
+
+    int compactChanges(Instant horizon);
+
+    int pruneChanges(Instant cutoff);
+}
@@ -0,0 +1,38 @@
+package com.example.springboot.service;
+
+import com.example.springboot.model.EmployeeImport;
+import com.example.springboot.model.EmployeeImportReject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public interface EmployeeImportService {
+
+    /**
+     * Spools {@code csv} to disk, checks its header and imports it in the background.
+     */
+    EmployeeImport submit(InputStream csv) throws IOException;
+
+    /**
+     * Imports {@code file} on the calling thread, resuming an earlier import of the same file that did not complete.
+     */
+    EmployeeImport importFile(Path file) throws IOException;
+
+    /**
+     * Continues a failed import in the background after its last committed chunk.
+     */
+    EmployeeImport resume(long id);
+
+    Optional<EmployeeImport> getImport(long id);
+
+    List<EmployeeImportReject> getRejects(long id, long afterLine, int limit);
+
+    /**
+     * Writes every rejected row of the import as CSV: line number, reason and the row as it was sent.
+     */
+    void writeRejectReport(long id, Writer writer) throws IOException;
+}
@@ -0,0 +1,19 @@
+package com.example.springboot.service;
+
+import com.example.springboot.dto.GroupCount;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+public interface EmployeeReportService {
+
+    /**
+     * Employees per email domain, largest first.
+     */
+    List<GroupCount> countByEmailDomain(Limit limit);
+
+    /**
+     * Employees per upper-cased first letter of the last name, in letter order.
+     */
+    List<GroupCount> countByLastNameInitial();
+}
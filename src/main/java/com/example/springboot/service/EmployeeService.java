@@ -2,7 +2,9 @@ package com.example.springboot.service;
 
 import com.example.springboot.model.Employee;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface EmployeeService {
@@ -15,6 +17,16 @@ public interface EmployeeService {
 
     Optional<Employee> getEmployeeById(long id);
 
+    /**
+     * Resolves many ids at once; ids without an employee are absent from the result.
+     */
+    Map<Long, Employee> getEmployeesByIds(Collection<Long> ids);
+
+    /**
+     * Resolves many emails at once; emails without an employee are absent from the result.
+     */
+    Map<String, Employee> findByEmails(Collection<String> emails);
+
     Employee updateEmployee(Employee updatedEmployee);
 
     void deleteEmployee(long id);
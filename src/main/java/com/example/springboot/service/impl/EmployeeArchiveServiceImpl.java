@@ -0,0 +1,57 @@
+package com.example.springboot.service.impl;
+
+import com.example.springboot.model.ArchivedEmployee;
+import com.example.springboot.repository.ArchivedEmployeeRepository;
+import com.example.springboot.repository.EmployeeRepository;
+import com.example.springboot.service.EmployeeArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class EmployeeArchiveServiceImpl implements EmployeeArchiveService {
+
+    private final EmployeeRepository employeeRepository;
+
+    private final ArchivedEmployeeRepository archivedEmployeeRepository;
+
+    @Override
+    @Transactional
+    public int archiveDeleted(int batchSize) {
+        List<Integer> ids = employeeRepository.findDeletedIds(batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedEmployeeRepository.copyDeletedEmployees(ids, Instant.now());
+        return employeeRepository.purgeDeleted(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ArchivedEmployee> getArchivedEmployees(long since, int limit) {
+        return archivedEmployeeRepository.findByIdGreaterThanOrderByIdAsc(toId(since), Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ArchivedEmployee> getArchivedEmployeesByEmail(String email, long since, int limit) {
+        return archivedEmployeeRepository.findByEmailAndIdGreaterThanOrderByIdAsc(email, toId(since), Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ArchivedEmployee> getArchivedEmployee(long id) {
+        return archivedEmployeeRepository.findById(id);
+    }
+
+    // Employee ids are ints; a cursor past the largest one simply matches nothing.
+    private static int toId(long since) {
+        return (int) Math.min(since, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.springboot.service.impl;
+
+import com.example.springboot.config.OutboxProperties;
+import com.example.springboot.model.ChangeType;
+import com.example.springboot.model.Employee;
+import com.example.springboot.model.EmployeeChange;
+import com.example.springboot.repository.EmployeeChangeRepository;
+import com.example.springboot.service.EmployeeChangeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class EmployeeChangeServiceImpl implements EmployeeChangeService {
+
+    private final EmployeeChangeRepository employeeChangeRepository;
+
+    private final OutboxProperties outboxProperties;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public EmployeeChange recordCreated(Employee employee) {
+        return employeeChangeRepository.save(snapshot(ChangeType.CREATED, employee));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public EmployeeChange recordUpdated(Employee employee) {
+        return employeeChangeRepository.save(snapshot(ChangeType.UPDATED, employee));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public EmployeeChange recordDeleted(long employeeId) {
+        return employeeChangeRepository.save(EmployeeChange.builder()
+                .employeeId(employeeId)
+                .type(ChangeType.DELETED)
+                .occurredAt(Instant.now())
+                .build());
+    }
+
+    /**
+     * Returns the changes after {@code since} up to the first recent gap in the sequence. Sequence numbers
+     * are assigned at insert time, so a missing number next to a recent row may belong to a transaction that
+     * has not committed yet; stopping there keeps a consumer's cursor below it instead of skipping it for good.
+     * A gap older than {@code employees.outbox.gap-timeout} is a rollback, compaction or pruning and is passed.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeChange> getChangesSince(long since, int limit) {
+        List<EmployeeChange> changes = employeeChangeRepository.findBySeqGreaterThanOrderBySeqAsc(since, Limit.of(limit));
+        Instant settled = Instant.now().minus(outboxProperties.getGapTimeout());
+        long expected = since + 1;
+        for (int i = 0; i < changes.size(); i++) {
+            EmployeeChange change = changes.get(i);
+            if (change.getSeq() != expected && change.getOccurredAt().isAfter(settled)) {
+                return changes.subList(0, i);
+            }
+            expected = change.getSeq() + 1;
+        }
+        return changes;
+    }
+
+    /**
+     * The highest sequence a consumer can start from without skipping a transaction that is still in flight,
+     * i.e. the end of the prefix {@link #getChangesSince} would return.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long getLatestSeq() {
+        Instant settled = Instant.now().minus(outboxProperties.getGapTimeout());
+        long latest = employeeChangeRepository.findLatestSeqOccurredAtOrBefore(settled);
+        List<EmployeeChange> changes;
+        while (!(changes = getChangesSince(latest, outboxProperties.getMaxPageSize())).isEmpty()) {
+            latest = changes.get(changes.size() - 1).getSeq();
+        }
+        return latest;
+    }
+
+    @Override
+    @Transactional
+    public int compactChanges(Instant horizon) {
+        return employeeChangeRepository.deleteSupersededOlderThan(horizon);
+    }
+
+    @Override
+    @Transactional
+    public int pruneChanges(Instant cutoff) {
+        return employeeChangeRepository.deleteOlderThan(cutoff);
+    }
+
+    private static EmployeeChange snapshot(ChangeType type, Employee employee) {
+        return EmployeeChange.builder()
+                .employeeId(employee.getId().longValue())
+                .type(type)
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .occurredAt(Instant.now())
+                .build();
+    }
+}
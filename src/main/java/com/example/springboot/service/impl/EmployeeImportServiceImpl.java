@@ -0,0 +1,322 @@
+package com.example.springboot.service.impl;
+
+import com.example.springboot.config.ImportProperties;
+import com.example.springboot.exception.BadRequestException;
+import com.example.springboot.exception.ResourceNotFoundException;
+import com.example.springboot.importer.EmployeeCsvFormat;
+import com.example.springboot.importer.ImportChunk;
+import com.example.springboot.importer.ImportChunkWriter;
+import com.example.springboot.importer.ImportFingerprint;
+import com.example.springboot.model.Employee;
+import com.example.springboot.model.EmployeeImport;
+import com.example.springboot.model.EmployeeImportReject;
+import com.example.springboot.model.ImportStatus;
+import com.example.springboot.repository.EmployeeImportRejectRepository;
+import com.example.springboot.repository.EmployeeImportRepository;
+import com.example.springboot.service.EmployeeImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk CSV import.
+ * <p>
+ * The calling thread streams the file and cuts it into chunks, a pool parses and validates
+ * chunks in parallel, and the calling thread writes the finished chunks back in file order,
+ * one transaction each. At most twice as many chunks as there are parser threads are in flight,
+ * so memory use does not depend on the file size. Because every chunk commits its employees,
+ * rejects and the import's checkpoint together, a failed import can be resumed after the last
+ * committed line without importing or rejecting any row twice, as long as its file is unchanged.
+ */
+@Slf4j
+@Service
+public class EmployeeImportServiceImpl implements EmployeeImportService, DisposableBean {
+
+    private static final List<ImportStatus> UNFINISHED = List.of(ImportStatus.QUEUED, ImportStatus.RUNNING,
+            ImportStatus.FAILED);
+
+    private final EmployeeImportRepository employeeImportRepository;
+
+    private final EmployeeImportRejectRepository employeeImportRejectRepository;
+
+    private final ImportChunkWriter importChunkWriter;
+
+    private final Validator validator;
+
+    private final ImportProperties importProperties;
+
+    private final ExecutorService parsers;
+
+    private final ExecutorService importer;
+
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public EmployeeImportServiceImpl(EmployeeImportRepository employeeImportRepository,
+            EmployeeImportRejectRepository employeeImportRejectRepository, ImportChunkWriter importChunkWriter,
+            Validator validator, ImportProperties importProperties) {
+        this.employeeImportRepository = employeeImportRepository;
+        this.employeeImportRejectRepository = employeeImportRejectRepository;
+        this.importChunkWriter = importChunkWriter;
+        this.validator = validator;
+        this.importProperties = importProperties;
+        this.parsers = Executors.newFixedThreadPool(importProperties.getParallelism(),
+                new CustomizableThreadFactory("employee-import-parse-"));
+        this.importer = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("employee-import-"));
+    }
+
+    @Override
+    public EmployeeImport submit(InputStream csv) throws IOException {
+        Files.createDirectories(importProperties.getSpoolDirectory());
+        Path spooled = Files.createTempFile(importProperties.getSpoolDirectory(), "employees-", ".csv");
+        try {
+            Files.copy(csv, spooled, StandardCopyOption.REPLACE_EXISTING);
+            readFormat(spooled);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spooled);
+            throw e;
+        }
+        EmployeeImport employeeImport = employeeImportRepository.save(newImport(spooled, ImportFingerprint.of(spooled)));
+        startInBackground(employeeImport.getId());
+        return employeeImport;
+    }
+
+    @Override
+    public EmployeeImport importFile(Path file) throws IOException {
+        readFormat(file);
+        String source = file.toAbsolutePath().normalize().toString();
+        String fingerprint = ImportFingerprint.of(file);
+        // A file replaced at the same path, e.g. the next nightly dump, starts over instead of skipping lines.
+        EmployeeImport employeeImport = employeeImportRepository
+                .findFirstBySourceAndStatusInOrderByIdDesc(source, UNFINISHED)
+                .filter(unfinished -> fingerprint.equals(unfinished.getSourceFingerprint()))
+                .orElseGet(() -> employeeImportRepository.save(newImport(Path.of(source), fingerprint)));
+        if (!running.add(employeeImport.getId())) {
+            throw alreadyRunning(employeeImport.getId());
+        }
+        return run(employeeImport.getId());
+    }
+
+    @Override
+    public EmployeeImport resume(long id) {
+        EmployeeImport employeeImport = employeeImportRepository.findById(id)
+                .orElseThrow(() -> ResourceNotFoundException.employeeImport(id));
+        if (employeeImport.getStatus() == ImportStatus.COMPLETED) {
+            throw new BadRequestException("Import with ID " + id + " has already completed");
+        }
+        if (!isSourceUnchanged(employeeImport)) {
+            throw new BadRequestException("The file of import with ID " + id + " has changed since the import started");
+        }
+        startInBackground(id);
+        return employeeImport;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EmployeeImport> getImport(long id) {
+        return employeeImportRepository.findById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeImportReject> getRejects(long id, long afterLine, int limit) {
+        return employeeImportRejectRepository.findByImportIdAndLineNumberGreaterThanOrderByLineNumberAsc(id, afterLine,
+                Limit.of(limit));
+    }
+
+    @Override
+    public void writeRejectReport(long id, Writer writer) throws IOException {
+        writer.write("line,reason,row\n");
+        long afterLine = 0;
+        List<EmployeeImportReject> rejects;
+        do {
+            rejects = getRejects(id, afterLine, importProperties.getMaxPageSize());
+            for (EmployeeImportReject reject : rejects) {
+                writer.write(reject.getLineNumber() + "," + EmployeeCsvFormat.quote(reject.getReason()) + ","
+                        + EmployeeCsvFormat.quote(reject.getRow()) + "\n");
+                afterLine = reject.getLineNumber();
+            }
+        } while (rejects.size() == importProperties.getMaxPageSize());
+        writer.flush();
+    }
+
+    @Override
+    public void destroy() {
+        importer.shutdownNow();
+        parsers.shutdownNow();
+    }
+
+    private void startInBackground(long id) {
+        if (!running.add(id)) {
+            throw alreadyRunning(id);
+        }
+        importer.execute(() -> run(id));
+    }
+
+    /**
+     * Runs or resumes an import; the caller has already claimed {@code id} in {@link #running}.
+     */
+    private EmployeeImport run(long id) {
+        Deque<Future<ImportChunk>> inFlight = new ArrayDeque<>();
+        try {
+            EmployeeImport employeeImport = updateStatus(id, ImportStatus.RUNNING, null);
+            int chunkSize = importProperties.getChunkSize();
+            int maxInFlight = importProperties.getParallelism() * 2;
+            try (BufferedReader reader = Files.newBufferedReader(Path.of(employeeImport.getSource()),
+                    StandardCharsets.UTF_8)) {
+                EmployeeCsvFormat format = EmployeeCsvFormat.fromHeader(reader.readLine());
+                long lineNumber = 1;
+                // Skip the lines an earlier attempt already committed.
+                while (lineNumber < employeeImport.getCommittedLine() && reader.readLine() != null) {
+                    lineNumber++;
+                }
+                long firstLine = lineNumber + 1;
+                List<String> lines = new ArrayList<>(chunkSize);
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    lines.add(line);
+                    if (lines.size() == chunkSize) {
+                        inFlight.add(prepare(format, firstLine, lines));
+                        lines = new ArrayList<>(chunkSize);
+                        firstLine = lineNumber + 1;
+                        if (inFlight.size() >= maxInFlight) {
+                            writeNext(id, inFlight);
+                        }
+                    }
+                }
+                if (!lines.isEmpty()) {
+                    inFlight.add(prepare(format, firstLine, lines));
+                }
+                while (!inFlight.isEmpty()) {
+                    writeNext(id, inFlight);
+                }
+            }
+            EmployeeImport completed = updateStatus(id, ImportStatus.COMPLETED, null);
+            log.info("Import {} completed: {} employees imported, {} rows rejected", id,
+                    completed.getImportedRows(), completed.getRejectedRows());
+            deleteIfSpooled(Path.of(completed.getSource()));
+            return completed;
+        } catch (Exception e) {
+            inFlight.forEach(chunk -> chunk.cancel(true));
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            log.warn("Import {} failed; it can be resumed after its last committed line", id, cause);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return updateStatus(id, ImportStatus.FAILED, String.valueOf(cause.getMessage()));
+        } finally {
+            running.remove(id);
+        }
+    }
+
+    private Future<ImportChunk> prepare(EmployeeCsvFormat format, long firstLine, List<String> lines) {
+        return parsers.submit(() -> {
+            List<ImportChunk.Row> rows = new ArrayList<>(lines.size());
+            for (int i = 0; i < lines.size(); i++) {
+                long lineNumber = firstLine + i;
+                String line = lines.get(i);
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    Employee employee = format.parse(line);
+                    Set<ConstraintViolation<Employee>> violations = validator.validate(employee);
+                    rows.add(violations.isEmpty()
+                            ? ImportChunk.Row.accepted(lineNumber, line, employee)
+                            : ImportChunk.Row.rejected(lineNumber, line, violations.stream()
+                                    .map(ConstraintViolation::getMessage)
+                                    .sorted()
+                                    .collect(Collectors.joining("; "))));
+                } catch (IllegalArgumentException e) {
+                    rows.add(ImportChunk.Row.rejected(lineNumber, line, e.getMessage()));
+                }
+            }
+            return new ImportChunk(firstLine + lines.size() - 1, rows);
+        });
+    }
+
+    private void writeNext(long id, Deque<Future<ImportChunk>> inFlight) throws Exception {
+        EmployeeImport progress = importChunkWriter.write(id, inFlight.removeFirst().get());
+        log.debug("Import {} committed through line {}: {} imported, {} rejected", id, progress.getCommittedLine(),
+                progress.getImportedRows(), progress.getRejectedRows());
+    }
+
+    private EmployeeImport updateStatus(long id, ImportStatus status, String error) {
+        EmployeeImport employeeImport = employeeImportRepository.findById(id).orElseThrow();
+        Instant now = Instant.now();
+        employeeImport.setStatus(status);
+        employeeImport.setError(error == null || error.length() <= 1000 ? error : error.substring(0, 1000));
+        employeeImport.setUpdatedAt(now);
+        employeeImport.setFinishedAt(status == ImportStatus.COMPLETED || status == ImportStatus.FAILED ? now : null);
+        return employeeImportRepository.save(employeeImport);
+    }
+
+    private void deleteIfSpooled(Path source) {
+        if (source.startsWith(importProperties.getSpoolDirectory().toAbsolutePath().normalize())) {
+            try {
+                Files.deleteIfExists(source);
+            } catch (IOException e) {
+                log.warn("Could not delete spooled import file {}: {}", source, e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isSourceUnchanged(EmployeeImport employeeImport) {
+        try {
+            return employeeImport.getSourceFingerprint() == null || employeeImport.getSourceFingerprint()
+                    .equals(ImportFingerprint.of(Path.of(employeeImport.getSource())));
+        } catch (IOException e) {
+            // A missing or unreadable file fails the run itself, with the actual error recorded on the import.
+            return true;
+        }
+    }
+
+    private static void readFormat(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            EmployeeCsvFormat.fromHeader(reader.readLine());
+        }
+    }
+
+    private static EmployeeImport newImport(Path source, String fingerprint) {
+        Instant now = Instant.now();
+        return EmployeeImport.builder()
+                .source(source.toAbsolutePath().normalize().toString())
+                .sourceFingerprint(fingerprint)
+                .status(ImportStatus.QUEUED)
+                .committedLine(1)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private static BadRequestException alreadyRunning(long id) {
+        return new BadRequestException("Import with ID " + id + " is already running");
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.springboot.service.impl;
+
+import com.example.springboot.config.ReportProperties;
+import com.example.springboot.dto.GroupCount;
+import com.example.springboot.repository.EmailDomainCountRepository;
+import com.example.springboot.repository.EmployeeRepository;
+import com.example.springboot.repository.LastNameInitialCountRepository;
+import com.example.springboot.service.EmployeeReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Computes reports with GROUP BY queries over the employees table, or reads them from the summary
+ * tables when {@code employees.reports.summary-tables} is enabled.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeReportServiceImpl implements EmployeeReportService {
+
+    private final EmployeeRepository employeeRepository;
+
+    private final EmailDomainCountRepository emailDomainCountRepository;
+
+    private final LastNameInitialCountRepository lastNameInitialCountRepository;
+
+    private final ReportProperties reportProperties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GroupCount> countByEmailDomain(Limit limit) {
+        return reportProperties.isSummaryTables()
+                ? emailDomainCountRepository.findCounts(limit)
+                : employeeRepository.countByEmailDomain(limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GroupCount> countByLastNameInitial() {
+        return reportProperties.isSummaryTables()
+                ? lastNameInitialCountRepository.findCounts()
+                : employeeRepository.countByLastNameInitial();
+    }
+}
@@ -1,13 +1,26 @@
 package com.example.springboot.service.impl;
 
+import com.example.springboot.config.CacheConfig;
+import com.example.springboot.config.LookupProperties;
+import com.example.springboot.event.EmployeeCacheInvalidationEvent;
+import com.example.springboot.event.EmployeeChangedEvent;
+import com.example.springboot.event.EmployeeSummaryDeltaEvent;
 import com.example.springboot.model.Employee;
 import com.example.springboot.repository.EmployeeRepository;
+import com.example.springboot.service.EmployeeChangeService;
 import com.example.springboot.service.EmployeeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -15,33 +28,115 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
 
+    private final EmployeeChangeService employeeChangeService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final LookupProperties lookupProperties;
+
     @Override
+    @Transactional
     public Employee saveEmployee(Employee employee) {
-        return employeeRepository.save(employee);
+        Employee savedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employeeChangeService.recordCreated(savedEmployee)));
+        eventPublisher.publishEvent(EmployeeSummaryDeltaEvent.added(savedEmployee));
+        eventPublisher.publishEvent(EmployeeCacheInvalidationEvent.of(savedEmployee.getId(), savedEmployee.getEmail()));
+        return savedEmployee;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
 
+    // Reads pinned to the primary skip the cache so read-your-writes never sees an entry cached from a replica.
+    // A key evicted within the replica-lag window is not cached either: the replica may still return the old row.
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_BY_EMAIL,
+            condition = "!T(com.example.springboot.datasource.ReadYourWritesContext).isPinnedToPrimary()",
+            unless = "#result == null || @employeeCacheInvalidator.isSettling('employeesByEmail', #email)")
     public Optional<Employee> findByEmail(String email) {
         return employeeRepository.findByEmail(email);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_BY_ID,
+            condition = "!T(com.example.springboot.datasource.ReadYourWritesContext).isPinnedToPrimary()",
+            unless = "#result == null || @employeeCacheInvalidator.isSettling('employeesById', #id)")
     public Optional<Employee> getEmployeeById(long id) {
         return employeeRepository.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        // Employee ids are ints, so larger values cannot match and are left out of the query.
+        List<Integer> intIds = ids.stream()
+                .filter(id -> id >= Integer.MIN_VALUE && id <= Integer.MAX_VALUE)
+                .map(Long::intValue)
+                .distinct()
+                .toList();
+        return findInBatches(intIds, employeeRepository::findByIdIn, employee -> employee.getId().longValue());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Employee> findByEmails(Collection<String> emails) {
+        return findInBatches(emails.stream().distinct().toList(), employeeRepository::findByEmailIn,
+                Employee::getEmail);
+    }
+
+    @Override
+    @Transactional
     public Employee updateEmployee(Employee updatedEmployee) {
-        return employeeRepository.save(updatedEmployee);
+        // Loads the row into the persistence context, which save() merges into, so this costs no extra query.
+        // The previous values are copied because the merge overwrites the managed instance.
+        Employee previous = employeeRepository.findById(updatedEmployee.getId().longValue())
+                .map(EmployeeServiceImpl::copyOf)
+                .orElse(null);
+        Employee savedEmployee = employeeRepository.save(updatedEmployee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employeeChangeService.recordUpdated(savedEmployee)));
+        eventPublisher.publishEvent(previous == null ? EmployeeSummaryDeltaEvent.added(savedEmployee)
+                : EmployeeSummaryDeltaEvent.replaced(previous, savedEmployee));
+        eventPublisher.publishEvent(EmployeeCacheInvalidationEvent.of(savedEmployee.getId(),
+                previous == null ? null : previous.getEmail(), savedEmployee.getEmail()));
+        return savedEmployee;
     }
 
     @Override
+    @Transactional
     public void deleteEmployee(long id) {
+        Employee previous = employeeRepository.findById(id).map(EmployeeServiceImpl::copyOf).orElse(null);
         employeeRepository.deleteById(id);
+        // Nothing was deleted, so there is no tombstone for consumers either.
+        if (previous != null) {
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employeeChangeService.recordDeleted(id)));
+            eventPublisher.publishEvent(EmployeeSummaryDeltaEvent.removed(previous));
+        }
+        eventPublisher.publishEvent(EmployeeCacheInvalidationEvent.of(id, previous == null ? null : previous.getEmail()));
+    }
+
+    private <V, K> Map<K, Employee> findInBatches(List<V> values, Function<List<V>, List<Employee>> query,
+            Function<Employee, K> key) {
+        Map<K, Employee> found = new HashMap<>();
+        int batchSize = lookupProperties.getBatchSize();
+        for (int from = 0; from < values.size(); from += batchSize) {
+            for (Employee employee : query.apply(values.subList(from, Math.min(from + batchSize, values.size())))) {
+                found.put(key.apply(employee), employee);
+            }
+        }
+        return found;
+    }
+
+    private static Employee copyOf(Employee employee) {
+        return Employee.builder()
+                .id(employee.getId())
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .build();
     }
 }
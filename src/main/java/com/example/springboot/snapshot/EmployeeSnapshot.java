@@ -0,0 +1,209 @@
+package com.example.springboot.snapshot;
+
+import com.example.springboot.config.OutboxProperties;
+import com.example.springboot.config.SnapshotProperties;
+import com.example.springboot.event.EmployeeChangedEvent;
+import com.example.springboot.model.ChangeType;
+import com.example.springboot.model.Employee;
+import com.example.springboot.model.EmployeeChange;
+import com.example.springboot.repository.EmployeeRepository;
+import com.example.springboot.service.EmployeeChangeService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps an {@link OffHeapEmployeeStore} in step with the employees table.
+ * <p>
+ * The snapshot is loaded by paging through the table by id and then follows the outbox, so
+ * writes made by other instances reach it within one refresh interval; writes made through this
+ * instance are applied as soon as they commit. It is empty until the first load completes, and
+ * callers treat a miss as "ask the database".
+ * <p>
+ * With {@code employees.snapshot.file} set, the snapshot is saved periodically and on shutdown
+ * together with its outbox position. A restarting instance maps that file before the web server
+ * starts, serves lookups from it straight away, and catches up by replaying the outbox from the
+ * saved position. The outbox sequence is used as the watermark rather than {@code max(id)}, which
+ * would miss updates and deletes. A file the outbox cannot bring up to date, because it is older
+ * than the outbox retention or ahead of the outbox (the database was reset), is discarded and
+ * the snapshot starts empty until the first refresh rebuilds it from the table.
+ */
+@Slf4j
+public class EmployeeSnapshot implements SmartInitializingSingleton, DisposableBean {
+
+    private final EmployeeRepository employeeRepository;
+
+    private final EmployeeChangeService employeeChangeService;
+
+    private final SnapshotProperties properties;
+
+    private final OutboxProperties outboxProperties;
+
+    private volatile OffHeapEmployeeStore store;
+
+    private long cursor;
+
+    private Instant loadedAt;
+
+    private Instant persistedAt;
+
+    public EmployeeSnapshot(EmployeeRepository employeeRepository, EmployeeChangeService employeeChangeService,
+            SnapshotProperties properties, OutboxProperties outboxProperties, MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        this.employeeChangeService = employeeChangeService;
+        this.properties = properties;
+        this.outboxProperties = outboxProperties;
+        Gauge.builder("employees.snapshot.entries", this, snapshot -> snapshot.isLoaded() ? snapshot.store.size() : 0)
+                .register(meterRegistry);
+        Gauge.builder("employees.snapshot.off-heap", this,
+                        snapshot -> snapshot.isLoaded() ? snapshot.store.getCapacityBytes() : 0)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean isLoaded() {
+        return store != null;
+    }
+
+    public Optional<Employee> getById(long id) {
+        OffHeapEmployeeStore current = store;
+        return current == null ? Optional.empty() : current.getById(id);
+    }
+
+    public Optional<Employee> getByEmail(String email) {
+        OffHeapEmployeeStore current = store;
+        return current == null ? Optional.empty() : current.getByEmail(email);
+    }
+
+    @Override
+    public synchronized void afterSingletonsInstantiated() {
+        Path file = properties.getFile();
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+        try {
+            SnapshotFile.Contents contents = SnapshotFile.read(file);
+            long latestSeq = employeeChangeService.getLatestSeq();
+            if (contents.version() > latestSeq) {
+                // The outbox restarted below the file, e.g. a fresh in-memory database: its rows may not exist.
+                log.info("Discarding employee snapshot {} at outbox seq {}, ahead of the outbox at {}; rebuilding",
+                        file, contents.version(), latestSeq);
+                return;
+            }
+            if (!contents.savedAt().plus(outboxProperties.getRetention()).isAfter(Instant.now())) {
+                log.info("Discarding employee snapshot {} saved at {}, older than the outbox retention; rebuilding",
+                        file, contents.savedAt());
+                return;
+            }
+            store = contents.store();
+            cursor = contents.version();
+            loadedAt = Instant.now();
+            persistedAt = Instant.now();
+            log.info("Restored {} employees from {} at outbox seq {}", store.size(), file, cursor);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable employee snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Applies a local write right after it commits instead of waiting for the next outbox poll, which
+     * replays the same change again later without effect. The store locks internally, so this does not
+     * wait for a refresh in progress.
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        OffHeapEmployeeStore current = store;
+        if (current != null) {
+            apply(current, event.change());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${employees.snapshot.refresh-interval:PT1S}")
+    public synchronized void refresh() {
+        if (store == null || Instant.now().isAfter(loadedAt.plus(properties.getRebuildInterval()))) {
+            rebuild();
+        } else {
+            cursor = applyChanges(store, cursor);
+        }
+        if (properties.getFile() != null
+                && (persistedAt == null || Instant.now().isAfter(persistedAt.plus(properties.getPersistInterval())))) {
+            persist();
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        persist();
+    }
+
+    /**
+     * Saves the snapshot and its outbox position to {@code employees.snapshot.file}, if configured.
+     */
+    public synchronized void persist() {
+        if (properties.getFile() == null || store == null) {
+            return;
+        }
+        try {
+            SnapshotFile.write(store, cursor, properties.getFile());
+            persistedAt = Instant.now();
+            log.debug("Saved {} employees to {} at outbox seq {}", store.size(), properties.getFile(), cursor);
+        } catch (IOException e) {
+            log.warn("Could not save employee snapshot to {}: {}", properties.getFile(), e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        // Read the outbox position first so changes racing with the table scan are replayed on top of it.
+        long seq = employeeChangeService.getLatestSeq();
+        OffHeapEmployeeStore fresh = new OffHeapEmployeeStore(
+                (int) Math.min(properties.getInitialCapacity().toBytes(), Integer.MAX_VALUE - 8));
+        int batchSize = properties.getLoadBatchSize();
+        Integer lastId = 0;
+        List<Employee> employees;
+        do {
+            employees = employeeRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(batchSize));
+            for (Employee employee : employees) {
+                fresh.put(employee);
+                lastId = employee.getId();
+            }
+        } while (employees.size() == batchSize);
+
+        cursor = applyChanges(fresh, seq);
+        store = fresh;
+        loadedAt = Instant.now();
+        log.info("Loaded {} employees into the snapshot ({} bytes off-heap)", fresh.size(), fresh.getCapacityBytes());
+    }
+
+    private long applyChanges(OffHeapEmployeeStore target, long since) {
+        int pageSize = outboxProperties.getMaxPageSize();
+        List<EmployeeChange> changes;
+        do {
+            changes = employeeChangeService.getChangesSince(since, pageSize);
+            for (EmployeeChange change : changes) {
+                apply(target, change);
+                since = change.getSeq();
+            }
+        } while (changes.size() == pageSize);
+        return since;
+    }
+
+    private static void apply(OffHeapEmployeeStore target, EmployeeChange change) {
+        if (change.getType() == ChangeType.DELETED) {
+            target.remove(change.getEmployeeId());
+        } else {
+            target.put(change.getEmployeeId(), change.getFirstName(), change.getLastName(), change.getEmail());
+        }
+    }
+}
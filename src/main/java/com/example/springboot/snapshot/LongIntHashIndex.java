@@ -0,0 +1,162 @@
+package com.example.springboot.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from {@code long} keys to non-negative {@code int} values, backed by two
+ * primitive arrays so an index over millions of entries is two objects rather than millions.
+ * Uses linear probing with backward-shift deletion, so there are no tombstones to clean up.
+ * Not thread-safe; {@link OffHeapEmployeeStore} guards it.
+ */
+final class LongIntHashIndex {
+
+    static final int MISSING = -1;
+
+    private static final float MAX_LOAD = 0.5f;
+
+    private long[] keys;
+
+    private int[] values;
+
+    private int mask;
+
+    private int size;
+
+    LongIntHashIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / MAX_LOAD)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Adopts arrays previously obtained from {@link #keys()} and {@link #values()}.
+     */
+    LongIntHashIndex(long[] keys, int[] values, int size) {
+        if (keys.length != values.length || Integer.bitCount(keys.length) != 1) {
+            throw new IllegalArgumentException("Index arrays must have the same power-of-two length");
+        }
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    int get(long key) {
+        for (int slot = slot(key); values[slot] != MISSING; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * Associates {@code value} with {@code key} and returns the previous value, or {@link #MISSING}.
+     */
+    int put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+        int slot = slot(key);
+        for (; values[slot] != MISSING; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > (keys.length * MAX_LOAD)) {
+            rehash(keys.length << 1);
+        }
+        return MISSING;
+    }
+
+    /**
+     * Removes {@code key} and returns its value, or {@link #MISSING} if it was absent.
+     */
+    int remove(long key) {
+        int slot = slot(key);
+        for (; values[slot] != MISSING; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                int removed = values[slot];
+                shiftBack(slot);
+                size--;
+                return removed;
+            }
+        }
+        return MISSING;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long[] keys() {
+        return keys;
+    }
+
+    int[] values() {
+        return values;
+    }
+
+    void forEach(Entry consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (values[slot] != MISSING) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Entry {
+        void accept(long key, int value);
+    }
+
+    // Moves later entries of the probe run into the freed slot unless that would put them before their home slot.
+    private void shiftBack(int freed) {
+        int slot = (freed + 1) & mask;
+        for (; values[slot] != MISSING; slot = (slot + 1) & mask) {
+            int home = slot(keys[slot]);
+            if (((slot - home) & mask) >= ((slot - freed) & mask)) {
+                keys[freed] = keys[slot];
+                values[freed] = values[slot];
+                freed = slot;
+            }
+        }
+        values[freed] = MISSING;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != MISSING) {
+                int slot = slot(oldKeys[i]);
+                while (values[slot] != MISSING) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        mask = capacity - 1;
+    }
+
+    private int slot(long key) {
+        // Murmur3 finalizer; ids are sequential and would otherwise cluster in neighbouring slots.
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key & mask;
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.springboot.snapshot;
+
+import com.example.springboot.model.Employee;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Employee records encoded into a direct or file-mapped {@link ByteBuffer}, indexed by id and by a
+ * 64-bit hash of the email.
+ * <p>
+ * Records are appended as {@code [int id][short len][first name][short len][last name][short len][email]}
+ * in UTF-8; an update appends a new record and leaves the old bytes as garbage, which is reclaimed
+ * by copying the live records into a fresh buffer once the current one fills up. Lookups decode
+ * a new {@link Employee} each time, so the only long-lived heap objects are the buffer and the two
+ * primitive indexes, however many employees are stored. An email hash collision is resolved by
+ * comparing the stored email and reported as a miss.
+ */
+public class OffHeapEmployeeStore {
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private ByteBuffer buffer;
+
+    private int writePosition;
+
+    private long liveBytes;
+
+    private LongIntHashIndex byId;
+
+    private LongIntHashIndex byEmailHash;
+
+    public OffHeapEmployeeStore(int initialCapacityBytes) {
+        this.buffer = ByteBuffer.allocateDirect(initialCapacityBytes);
+        this.byId = new LongIntHashIndex(1024);
+        this.byEmailHash = new LongIntHashIndex(1024);
+    }
+
+    /**
+     * Wraps records and indexes restored by {@link SnapshotFile}; {@code buffer} may be a file mapping.
+     */
+    OffHeapEmployeeStore(ByteBuffer buffer, int writePosition, long liveBytes, LongIntHashIndex byId,
+            LongIntHashIndex byEmailHash) {
+        this.buffer = buffer;
+        this.writePosition = writePosition;
+        this.liveBytes = liveBytes;
+        this.byId = byId;
+        this.byEmailHash = byEmailHash;
+    }
+
+    public void put(Employee employee) {
+        put(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail());
+    }
+
+    public void put(long id, String firstName, String lastName, String email) {
+        byte[] first = encode(firstName);
+        byte[] last = encode(lastName);
+        byte[] mail = encode(email);
+        int length = Integer.BYTES + 3 * Short.BYTES + first.length + last.length + mail.length;
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            ensureCapacity(length);
+            int offset = writePosition;
+            int position = offset;
+            buffer.putInt(position, (int) id);
+            position = writeString(position + Integer.BYTES, first);
+            position = writeString(position, last);
+            writeString(position, mail);
+            writePosition += length;
+            liveBytes += length;
+            byId.put(id, offset);
+            byEmailHash.put(hash(mail), offset);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Employee> getById(long id) {
+        lock.readLock().lock();
+        try {
+            int offset = byId.get(id);
+            return offset == LongIntHashIndex.MISSING ? Optional.empty() : Optional.of(decode(offset));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Employee> getByEmail(String email) {
+        long hash = hash(encode(email));
+        lock.readLock().lock();
+        try {
+            int offset = byEmailHash.get(hash);
+            if (offset == LongIntHashIndex.MISSING) {
+                return Optional.empty();
+            }
+            Employee employee = decode(offset);
+            return email.equals(employee.getEmail()) ? Optional.of(employee) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getCapacityBytes() {
+        lock.readLock().lock();
+        try {
+            return buffer.capacity();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getLiveBytes() {
+        lock.readLock().lock();
+        try {
+            return liveBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Hands a consistent view of the records and indexes to {@code exporter}; writes wait until it returns.
+     */
+    void export(Exporter exporter) throws IOException {
+        lock.readLock().lock();
+        try {
+            exporter.export(buffer.duplicate(), writePosition, liveBytes, byId, byEmailHash);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @FunctionalInterface
+    interface Exporter {
+        void export(ByteBuffer records, int writePosition, long liveBytes, LongIntHashIndex byId,
+                LongIntHashIndex byEmailHash) throws IOException;
+    }
+
+    private void removeLocked(long id) {
+        int offset = byId.remove(id);
+        if (offset == LongIntHashIndex.MISSING) {
+            return;
+        }
+        int emailStart = skipString(skipString(offset + Integer.BYTES));
+        long emailHash = hash(readBytes(emailStart));
+        // Another employee may own this hash slot after a collision; only drop it if it still points here.
+        if (byEmailHash.get(emailHash) == offset) {
+            byEmailHash.remove(emailHash);
+        }
+        liveBytes -= skipString(emailStart) - offset;
+    }
+
+    /**
+     * Makes room for {@code length} more bytes by compacting live records into a new buffer, doubling
+     * its size while live data would fill more than half of it.
+     */
+    private void ensureCapacity(int length) {
+        if (writePosition + length <= buffer.capacity()) {
+            return;
+        }
+        long required = liveBytes + length;
+        long capacity = buffer.capacity();
+        while (capacity < required * 2 && capacity < MAX_CAPACITY) {
+            capacity = Math.min(capacity * 2, MAX_CAPACITY);
+        }
+        if (capacity < required) {
+            throw new IllegalStateException("Employee snapshot exceeds " + MAX_CAPACITY + " bytes");
+        }
+
+        ByteBuffer target = ByteBuffer.allocateDirect((int) capacity);
+        LongIntHashIndex targetById = new LongIntHashIndex(byId.size());
+        LongIntHashIndex targetByEmailHash = new LongIntHashIndex(byId.size());
+        int[] position = {0};
+        byId.forEach((id, offset) -> {
+            int emailStart = skipString(skipString(offset + Integer.BYTES));
+            int recordLength = skipString(emailStart) - offset;
+            target.put(position[0], buffer, offset, recordLength);
+            targetById.put(id, position[0]);
+            targetByEmailHash.put(hash(readBytes(emailStart)), position[0]);
+            position[0] += recordLength;
+        });
+        buffer = target;
+        byId = targetById;
+        byEmailHash = targetByEmailHash;
+        writePosition = position[0];
+        liveBytes = position[0];
+    }
+
+    private Employee decode(int offset) {
+        int id = buffer.getInt(offset);
+        int position = offset + Integer.BYTES;
+        String firstName = decodeString(position);
+        position = skipString(position);
+        String lastName = decodeString(position);
+        position = skipString(position);
+        String email = decodeString(position);
+        return Employee.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .build();
+    }
+
+    private int writeString(int position, byte[] bytes) {
+        buffer.putShort(position, (short) bytes.length);
+        buffer.put(position + Short.BYTES, bytes);
+        return position + Short.BYTES + bytes.length;
+    }
+
+    private int skipString(int position) {
+        return position + Short.BYTES + Short.toUnsignedInt(buffer.getShort(position));
+    }
+
+    private byte[] readBytes(int position) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort(position))];
+        buffer.get(position + Short.BYTES, bytes);
+        return bytes;
+    }
+
+    private String decodeString(int position) {
+        return new String(readBytes(position), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] encode(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 64-bit FNV-1a; the index mixes the bits again before picking a slot.
+    private static long hash(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.springboot.snapshot;
+
+import com.example.springboot.datasource.ReadYourWritesContext;
+import com.example.springboot.model.Employee;
+import com.example.springboot.service.EmployeeService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Serves id and email lookups from the {@link EmployeeSnapshot} and delegates everything else,
+ * including snapshot misses, to the regular service. Requests pinned to the primary after a write
+ * bypass the snapshot, which may not have caught up with that write yet.
+ */
+public class SnapshotEmployeeService implements EmployeeService {
+
+    private final EmployeeService delegate;
+
+    private final EmployeeSnapshot snapshot;
+
+    public SnapshotEmployeeService(EmployeeService delegate, EmployeeSnapshot snapshot) {
+        this.delegate = delegate;
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public Employee saveEmployee(Employee employee) {
+        return delegate.saveEmployee(employee);
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return delegate.getAllEmployees();
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        if (!ReadYourWritesContext.isPinnedToPrimary()) {
+            Optional<Employee> employee = snapshot.getByEmail(email);
+            if (employee.isPresent()) {
+                return employee;
+            }
+        }
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeById(long id) {
+        if (!ReadYourWritesContext.isPinnedToPrimary()) {
+            Optional<Employee> employee = snapshot.getById(id);
+            if (employee.isPresent()) {
+                return employee;
+            }
+        }
+        return delegate.getEmployeeById(id);
+    }
+
+    @Override
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        if (ReadYourWritesContext.isPinnedToPrimary()) {
+            return delegate.getEmployeesByIds(ids);
+        }
+        Map<Long, Employee> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            snapshot.getById(id).ifPresentOrElse(employee -> found.put(id, employee), () -> misses.add(id));
+        }
+        if (!misses.isEmpty()) {
+            found.putAll(delegate.getEmployeesByIds(misses));
+        }
+        return found;
+    }
+
+    @Override
+    public Map<String, Employee> findByEmails(Collection<String> emails) {
+        if (ReadYourWritesContext.isPinnedToPrimary()) {
+            return delegate.findByEmails(emails);
+        }
+        Map<String, Employee> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String email : emails) {
+            snapshot.getByEmail(email).ifPresentOrElse(employee -> found.put(email, employee), () -> misses.add(email));
+        }
+        if (!misses.isEmpty()) {
+            found.putAll(delegate.findByEmails(misses));
+        }
+        return found;
+    }
+
+    @Override
+    public Employee updateEmployee(Employee updatedEmployee) {
+        return delegate.updateEmployee(updatedEmployee);
+    }
+
+    @Override
+    public void deleteEmployee(long id) {
+        delegate.deleteEmployee(id);
+    }
+}
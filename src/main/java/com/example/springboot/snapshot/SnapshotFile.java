@@ -0,0 +1,142 @@
+package com.example.springboot.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * On-disk form of an {@link OffHeapEmployeeStore}: a fixed header, both index arrays, then the
+ * record area at its full capacity so that, once mapped, the store can keep appending in place.
+ * <p>
+ * Writing goes to a temporary file that is atomically moved over the previous one, so a crash
+ * leaves either the old or the new snapshot. Reading copies the indexes to the heap and maps the
+ * record area privately: restored records are served straight from the page cache, and later
+ * writes to the mapping stay in this process instead of changing the file.
+ */
+final class SnapshotFile {
+
+    private static final int MAGIC = 0x454d5053;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_BYTES = 56;
+
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    /**
+     * A restored store together with the outbox sequence it reflects and when it was written.
+     */
+    record Contents(OffHeapEmployeeStore store, long version, Instant savedAt) {
+    }
+
+    private SnapshotFile() {
+    }
+
+    static void write(OffHeapEmployeeStore store, long version, Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            store.export((records, writePosition, liveBytes, byId, byEmailHash) -> {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                        .putInt(MAGIC)
+                        .putInt(FORMAT_VERSION)
+                        .putLong(version)
+                        .putLong(Instant.now().toEpochMilli())
+                        .putInt(writePosition)
+                        .putInt(records.capacity())
+                        .putLong(liveBytes)
+                        .putInt(byId.keys().length)
+                        .putInt(byId.size())
+                        .putInt(byEmailHash.keys().length)
+                        .putInt(byEmailHash.size());
+                writeFully(channel, header.flip());
+                writeIndex(channel, byId);
+                writeIndex(channel, byEmailHash);
+                long recordsStart = channel.position();
+                writeFully(channel, records.limit(writePosition).position(0));
+                if (records.capacity() > writePosition) {
+                    // Extend to the full record area without writing it; the tail stays sparse.
+                    channel.write(ByteBuffer.allocate(1), recordsStart + records.capacity() - 1);
+                }
+            });
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static Contents read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IOException("Not an employee snapshot file: " + file);
+            }
+            long version = header.getLong();
+            Instant savedAt = Instant.ofEpochMilli(header.getLong());
+            int writePosition = header.getInt();
+            int recordCapacity = header.getInt();
+            long liveBytes = header.getLong();
+            int idCapacity = header.getInt();
+            int idSize = header.getInt();
+            int emailCapacity = header.getInt();
+            int emailSize = header.getInt();
+
+            long indexBytes = (long) (Long.BYTES + Integer.BYTES) * (idCapacity + emailCapacity);
+            long recordsStart = HEADER_BYTES + indexBytes;
+            if (channel.size() != recordsStart + recordCapacity) {
+                throw new IOException("Truncated employee snapshot file: " + file);
+            }
+
+            MappedByteBuffer indexes = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, indexBytes);
+            LongIntHashIndex byId = readIndex(indexes, idCapacity, idSize);
+            LongIntHashIndex byEmailHash = readIndex(indexes, emailCapacity, emailSize);
+            MappedByteBuffer records = channel.map(FileChannel.MapMode.PRIVATE, recordsStart, recordCapacity);
+
+            return new Contents(new OffHeapEmployeeStore(records, writePosition, liveBytes, byId, byEmailHash),
+                    version, savedAt);
+        }
+    }
+
+    private static void writeIndex(FileChannel channel, LongIntHashIndex index) throws IOException {
+        long[] keys = index.keys();
+        int[] values = index.values();
+        ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_BYTES);
+        for (int from = 0; from < keys.length; from += CHUNK_BYTES / Long.BYTES) {
+            int length = Math.min(CHUNK_BYTES / Long.BYTES, keys.length - from);
+            chunk.clear().asLongBuffer().put(keys, from, length);
+            writeFully(channel, chunk.limit(length * Long.BYTES));
+        }
+        for (int from = 0; from < values.length; from += CHUNK_BYTES / Integer.BYTES) {
+            int length = Math.min(CHUNK_BYTES / Integer.BYTES, values.length - from);
+            chunk.clear().asIntBuffer().put(values, from, length);
+            writeFully(channel, chunk.limit(length * Integer.BYTES));
+        }
+    }
+
+    private static LongIntHashIndex readIndex(MappedByteBuffer indexes, int capacity, int size) {
+        long[] keys = new long[capacity];
+        int[] values = new int[capacity];
+        LongBuffer keyView = indexes.asLongBuffer();
+        keyView.get(keys);
+        indexes.position(indexes.position() + capacity * Long.BYTES);
+        IntBuffer valueView = indexes.asIntBuffer();
+        valueView.get(values);
+        indexes.position(indexes.position() + capacity * Integer.BYTES);
+        return new LongIntHashIndex(keys, values, size);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
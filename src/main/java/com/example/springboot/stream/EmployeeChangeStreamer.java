@@ -0,0 +1,207 @@
+package com.example.springboot.stream;
+
+import com.example.springboot.config.OutboxProperties;
+import com.example.springboot.config.StreamProperties;
+import com.example.springboot.model.EmployeeChange;
+import com.example.springboot.service.EmployeeChangeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams outbox rows to Server-Sent Events subscribers.
+ * <p>
+ * A single scheduled poll reads new rows from the outbox for all subscribers, so the
+ * database load does not grow with the number of connected clients. Because it reads the
+ * table rather than in-process events, subscribers also see changes made by other instances.
+ * The poll only appends rows to each subscriber's bounded buffer; the writes happen on the
+ * {@link EmployeeEventBroadcaster}'s sender pool, so a slow client never holds up the
+ * scheduler thread. A subscriber whose buffer is full is disconnected and catches up by
+ * reconnecting with {@code Last-Event-ID}.
+ * <p>
+ * A new subscriber first replays the retained backlog page by page on the sender pool, then
+ * continues with the buffered live rows. Both read through
+ * {@link EmployeeChangeService#getChangesSince}, which holds the cursor below a transaction
+ * that has not committed yet, so a row that commits out of sequence order is not skipped.
+ */
+@Slf4j
+@Component
+public class EmployeeChangeStreamer implements DisposableBean {
+
+    static final String EVENT_NAME = "employee-change";
+
+    private final EmployeeChangeService employeeChangeService;
+
+    private final OutboxProperties outboxProperties;
+
+    private final StreamProperties streamProperties;
+
+    private final EmployeeEventBroadcaster broadcaster;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Only read and written by the scheduled poll.
+    private long cursor = -1;
+
+    public EmployeeChangeStreamer(EmployeeChangeService employeeChangeService, OutboxProperties outboxProperties,
+            StreamProperties streamProperties, EmployeeEventBroadcaster broadcaster) {
+        this.employeeChangeService = employeeChangeService;
+        this.outboxProperties = outboxProperties;
+        this.streamProperties = streamProperties;
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Replays every retained change after {@code since} and then keeps the emitter open for new ones.
+     */
+    public SseEmitter subscribe(long since) {
+        return register(new SseEmitter(outboxProperties.getStreamTimeout().toMillis()), since);
+    }
+
+    SseEmitter register(SseEmitter emitter, long since) {
+        Subscriber subscriber = new Subscriber(emitter, since, streamProperties.getBufferSize());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+        // Registered before the backlog is read, so every row past the backlog reaches the buffer.
+        subscribers.add(subscriber);
+        scheduleDrain(subscriber);
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${employees.outbox.stream-poll-interval:PT1S}")
+    public void poll() {
+        if (cursor < 0) {
+            cursor = employeeChangeService.getLatestSeq();
+        }
+        if (subscribers.isEmpty()) {
+            // Nobody is listening; skip reading rows and just remember where the feed is.
+            cursor = employeeChangeService.getLatestSeq();
+            return;
+        }
+
+        List<EmployeeChange> changes;
+        do {
+            changes = employeeChangeService.getChangesSince(cursor, outboxProperties.getMaxPageSize());
+            if (changes.isEmpty()) {
+                return;
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.offer(changes)) {
+                    scheduleDrain(subscriber);
+                } else {
+                    log.debug("Disconnecting slow employee change subscriber");
+                    close(subscriber);
+                }
+            }
+            cursor = changes.get(changes.size() - 1).getSeq();
+        } while (changes.size() == outboxProperties.getMaxPageSize());
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(this::close);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                broadcaster.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                close(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                if (!subscriber.caughtUp) {
+                    replayBacklog(subscriber);
+                    subscriber.caughtUp = true;
+                }
+                EmployeeChange change;
+                while ((change = subscriber.buffer.poll()) != null) {
+                    subscriber.send(change);
+                }
+                subscriber.draining.set(false);
+                // A page may have arrived after the last poll but before the flag was cleared.
+            } while (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Employee change subscriber went away: {}", e.getMessage());
+            close(subscriber);
+        }
+    }
+
+    private void replayBacklog(Subscriber subscriber) throws IOException {
+        List<EmployeeChange> backlog;
+        do {
+            backlog = employeeChangeService.getChangesSince(subscriber.lastSeq, outboxProperties.getMaxPageSize());
+            for (EmployeeChange change : backlog) {
+                subscriber.send(change);
+            }
+        } while (backlog.size() == outboxProperties.getMaxPageSize());
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.buffer.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final Queue<EmployeeChange> buffer;
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private volatile boolean caughtUp;
+
+        // Only touched by the drain task, which runs for one subscriber at a time.
+        private long lastSeq;
+
+        private Subscriber(SseEmitter emitter, long lastSeq, int bufferSize) {
+            this.emitter = emitter;
+            this.lastSeq = lastSeq;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean offer(List<EmployeeChange> changes) {
+            for (EmployeeChange change : changes) {
+                if (!buffer.offer(change)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void send(EmployeeChange change) throws IOException {
+            // The backlog and the live buffer overlap around the moment the subscriber registered.
+            if (change.getSeq() > lastSeq) {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(change.getSeq()))
+                        .name(EVENT_NAME)
+                        .data(change));
+                lastSeq = change.getSeq();
+            }
+        }
+    }
+}
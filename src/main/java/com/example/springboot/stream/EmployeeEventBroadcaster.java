@@ -0,0 +1,184 @@
+package com.example.springboot.stream;
+
+import com.example.springboot.config.StreamProperties;
+import com.example.springboot.config.StreamProperties.OverflowPolicy;
+import com.example.springboot.event.EmployeeChangedEvent;
+import com.example.springboot.model.EmployeeChange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed employee changes to Server-Sent Events subscribers.
+ * <p>
+ * Publishing only appends to each subscriber's bounded buffer and never blocks on the
+ * network. A small shared pool drains buffers, at most one task per subscriber at a time,
+ * so idle connections cost a buffer and an emitter but no thread. When a subscriber falls
+ * {@code bufferSize} events behind, the configured {@link OverflowPolicy} applies.
+ */
+@Slf4j
+@Component
+public class EmployeeEventBroadcaster implements DisposableBean {
+
+    private final StreamProperties streamProperties;
+
+    private final ExecutorService sender;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    public EmployeeEventBroadcaster(StreamProperties streamProperties) {
+        this.streamProperties = streamProperties;
+        this.sender = Executors.newFixedThreadPool(streamProperties.getSenderThreads(),
+                new CustomizableThreadFactory("employee-stream-"));
+    }
+
+    public SseEmitter subscribe() {
+        return register(new SseEmitter(streamProperties.getTimeout().toMillis()));
+    }
+
+    SseEmitter register(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, streamProperties.getBufferSize());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(event.change())) {
+                scheduleDrain(subscriber);
+            } else if (streamProperties.getOverflowPolicy() == OverflowPolicy.DISCONNECT) {
+                log.debug("Disconnecting slow employee stream subscriber");
+                close(subscriber);
+            } else {
+                droppedEvents.addAndGet(subscriber.dropOldestAndOffer(event.change()));
+                scheduleDrain(subscriber);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${employees.stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * Runs a write on the shared sender pool; {@link EmployeeChangeStreamer} uses it so that no
+     * stream writes to a client on the scheduler thread.
+     *
+     * @throws RejectedExecutionException once the broadcaster is shut down
+     */
+    void execute(Runnable task) {
+        sender.execute(task);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(this::close);
+        sender.shutdownNow();
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down: an event committed meanwhile finds the pool gone.
+                close(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                if (subscriber.heartbeatDue) {
+                    subscriber.heartbeatDue = false;
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                EmployeeChange change;
+                while ((change = subscriber.buffer.poll()) != null) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(change.getSeq()))
+                            .name(change.getType().name().toLowerCase(Locale.ROOT))
+                            .data(change));
+                }
+                subscriber.draining.set(false);
+                // An event may have arrived after the last poll but before the flag was cleared.
+            } while ((!subscriber.buffer.isEmpty() || subscriber.heartbeatDue)
+                    && subscriber.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Employee stream subscriber went away: {}", e.getMessage());
+            close(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.buffer.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final Queue<EmployeeChange> buffer;
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private volatile boolean heartbeatDue;
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean offer(EmployeeChange change) {
+            return buffer.offer(change);
+        }
+
+        private int dropOldestAndOffer(EmployeeChange change) {
+            int dropped = 0;
+            do {
+                if (buffer.poll() != null) {
+                    dropped++;
+                }
+            } while (!buffer.offer(change));
+            return dropped;
+        }
+    }
+}
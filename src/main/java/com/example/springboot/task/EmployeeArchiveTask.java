@@ -0,0 +1,37 @@
+package com.example.springboot.task;
+
+import com.example.springboot.config.ArchiveProperties;
+import com.example.springboot.service.EmployeeArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the employees table down to active rows: deleted employees are moved to the archive
+ * in batches, each in its own short transaction, until none are left.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeArchiveTask {
+
+    private final EmployeeArchiveService employeeArchiveService;
+
+    private final ArchiveProperties archiveProperties;
+
+    @Scheduled(fixedDelayString = "${employees.archive.interval:PT1M}",
+            initialDelayString = "${employees.archive.interval:PT1M}")
+    public void archive() {
+        int batchSize = archiveProperties.getBatchSize();
+        int archived = 0;
+        int moved;
+        do {
+            moved = employeeArchiveService.archiveDeleted(batchSize);
+            archived += moved;
+        } while (moved == batchSize);
+        if (archived > 0) {
+            log.info("Employee archive: {} deleted employees moved", archived);
+        }
+    }
+}
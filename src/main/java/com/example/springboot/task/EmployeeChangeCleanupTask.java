@@ -0,0 +1,35 @@
+package com.example.springboot.task;
+
+import com.example.springboot.config.OutboxProperties;
+import com.example.springboot.service.EmployeeChangeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Keeps the employee change outbox small: superseded changes are compacted once they
+ * pass the compaction horizon and everything past the retention period is pruned.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeChangeCleanupTask {
+
+    private final EmployeeChangeService employeeChangeService;
+
+    private final OutboxProperties outboxProperties;
+
+    @Scheduled(fixedDelayString = "${employees.outbox.cleanup-interval:PT5M}",
+            initialDelayString = "${employees.outbox.cleanup-interval:PT5M}")
+    public void cleanUp() {
+        Instant now = Instant.now();
+        int compacted = employeeChangeService.compactChanges(now.minus(outboxProperties.getCompactionHorizon()));
+        int pruned = employeeChangeService.pruneChanges(now.minus(outboxProperties.getRetention()));
+        if (compacted > 0 || pruned > 0) {
+            log.info("Employee change outbox cleanup: {} compacted, {} pruned", compacted, pruned);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.springboot;
+
+import com.example.springboot.config.CacheConfig;
+import com.example.springboot.model.Employee;
+import com.example.springboot.repository.CacheInvalidationRepository;
+import com.example.springboot.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "employees.cache.invalidation-bus=database")
+class CacheInvalidationITCase {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Test
+    void updateEvictsCachedEntriesAndRecordsInvalidationForPeers() {
+        Employee saved = employeeService.saveEmployee(Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .build());
+        long id = saved.getId();
+
+        employeeService.getEmployeeById(id);
+        employeeService.findByEmail("john.doe@example.com");
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID).get(id)).isNotNull();
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES_BY_EMAIL).get("john.doe@example.com")).isNotNull();
+
+        employeeService.updateEmployee(Employee.builder()
+                .id(saved.getId())
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@example.com")
+                .build());
+
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES_BY_ID).get(id)).isNull();
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES_BY_EMAIL).get("john.doe@example.com")).isNull();
+        assertThat(employeeService.getEmployeeById(id)).map(Employee::getEmail).hasValue("john@example.com");
+        assertThat(cacheInvalidationRepository.findAll())
+                .extracting(invalidation -> invalidation.getCacheKey())
+                .contains(String.valueOf(id), "john.doe@example.com", "john@example.com");
+    }
+}
@@ -0,0 +1,332 @@
+package com.example.springboot;
+
+import com.example.springboot.model.Employee;
+import com.example.springboot.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Open-model load test for the employee API. Requests are issued at a fixed arrival rate
+ * regardless of how quickly earlier ones complete, and latency is measured from each request's
+ * scheduled start so that a stalled server cannot hide its queueing delay (coordinated omission).
+ * Only runs under the {@code load-test} Maven profile, which also supplies the thresholds.
+ */
+@Isolated
+@EnabledIfSystemProperty(named = "load.rate", matches = ".+")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=warn"
+})
+class EmployeeApiLoadITCase {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+
+    @Test
+    void sustainsConfiguredArrivalRateWithinLatencyBudget() throws Exception {
+        int seed = Integer.getInteger("load.seed", 1000);
+        int rate = Integer.getInteger("load.rate");
+        int clients = Integer.getInteger("load.clients", 64);
+        Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+        Duration duration = Duration.parse(System.getProperty("load.duration", "PT30S"));
+        Mix mix = Mix.parse(System.getProperty("load.mix", "get=60,list=5,create=15,update=15,delete=5"));
+        double p99BudgetMillis = Double.parseDouble(System.getProperty("load.p99-millis", "250"));
+        double minThroughput = Double.parseDouble(System.getProperty("load.min-throughput", String.valueOf(rate * 0.9)));
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+
+        IdPool ids = new IdPool();
+        employeeRepository.saveAll(IntStream.range(0, seed)
+                .mapToObj(i -> employee("Seed", nextEmail()))
+                .toList())
+                .forEach(employee -> ids.add(employee.getId()));
+
+        ExecutorService clientPool = Executors.newFixedThreadPool(clients);
+        try {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(clientPool)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            run(httpClient, ids, mix, rate, warmup, new Recorder());
+            Recorder recorder = new Recorder();
+            long elapsedNanos = run(httpClient, ids, mix, rate, duration, recorder);
+
+            double throughput = recorder.total.getTotalCount() * 1e9 / elapsedNanos;
+            double errorRate = recorder.total.getTotalCount() == 0
+                    ? 0 : (double) recorder.errors.get() / recorder.total.getTotalCount();
+            double p99Millis = recorder.total.getValueAtPercentile(99) / 1e6;
+
+            String report = recorder.report(rate, clients, duration, throughput, errorRate);
+            System.out.print(report);
+            String reportPath = System.getProperty("load.report");
+            if (reportPath != null) {
+                Files.writeString(Path.of(reportPath), report);
+            }
+
+            assertThat(p99Millis).as("p99 latency (ms)").isLessThanOrEqualTo(p99BudgetMillis);
+            assertThat(throughput).as("throughput (req/s)").isGreaterThanOrEqualTo(minThroughput);
+            assertThat(errorRate).as("error rate").isLessThanOrEqualTo(maxErrorRate);
+        } finally {
+            clientPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Issues requests at {@code rate} per second for {@code duration}, then waits for the
+     * stragglers. Returns the nanoseconds from the first scheduled request to the last completion.
+     */
+    private long run(HttpClient httpClient, IdPool ids, Mix mix, int rate, Duration duration,
+                     Recorder recorder) throws Exception {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long requests = duration.toNanos() / intervalNanos;
+        List<CompletableFuture<?>> inFlight = new ArrayList<>((int) requests);
+
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long scheduledAt = start + i * intervalNanos;
+            long delay = scheduledAt - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            Operation operation = mix.next();
+            HttpRequest request = operation.request(this, ids);
+            if (request == null) {
+                continue;
+            }
+            inFlight.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> {
+                        recorder.record(operation, System.nanoTime() - scheduledAt,
+                                failure == null && response.statusCode() == 200);
+                        if (failure == null && operation == Operation.CREATE && response.statusCode() == 200) {
+                            ids.add(readId(response.body()));
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                .handle((ignored, failure) -> null)
+                .get(1, TimeUnit.MINUTES);
+        return System.nanoTime() - start;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + "/api/employees" + path);
+    }
+
+    private HttpRequest json(String method, String path, Employee body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int readId(String body) {
+        try {
+            return objectMapper.readTree(body).get("id").asInt();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String nextEmail() {
+        return "load-" + emailSequence.incrementAndGet() + "@example.com";
+    }
+
+    private static Employee employee(String firstName, String email) {
+        return Employee.builder().firstName(firstName).lastName("Load").email(email).build();
+    }
+
+    private enum Operation {
+        CREATE {
+            @Override
+            HttpRequest request(EmployeeApiLoadITCase test, IdPool ids) {
+                return test.json("POST", "", employee("Created", test.nextEmail()));
+            }
+        },
+        LIST {
+            @Override
+            HttpRequest request(EmployeeApiLoadITCase test, IdPool ids) {
+                return HttpRequest.newBuilder(test.uri("")).GET().build();
+            }
+        },
+        GET {
+            @Override
+            HttpRequest request(EmployeeApiLoadITCase test, IdPool ids) {
+                Integer id = ids.random();
+                return id == null ? null : HttpRequest.newBuilder(test.uri("/" + id)).GET().build();
+            }
+        },
+        UPDATE {
+            @Override
+            HttpRequest request(EmployeeApiLoadITCase test, IdPool ids) {
+                Integer id = ids.random();
+                if (id == null) {
+                    return null;
+                }
+                Employee employee = employee("Updated", test.nextEmail());
+                employee.setId(id);
+                return test.json("PUT", "/" + id, employee);
+            }
+        },
+        DELETE {
+            @Override
+            HttpRequest request(EmployeeApiLoadITCase test, IdPool ids) {
+                Integer id = ids.removeRandom();
+                return id == null ? null : HttpRequest.newBuilder(test.uri("/" + id)).DELETE().build();
+            }
+        };
+
+        /**
+         * Builds the next request of this kind, or {@code null} when there is no live employee
+         * to target.
+         */
+        abstract HttpRequest request(EmployeeApiLoadITCase test, IdPool ids);
+    }
+
+    /**
+     * Weighted operation mix, parsed from {@code get=60,list=5,create=15,update=15,delete=5}.
+     */
+    private record Mix(Operation[] operations, int[] cumulativeWeights) {
+
+        static Mix parse(String spec) {
+            Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.trim().split("=");
+                weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+            }
+            Operation[] operations = weights.keySet().toArray(Operation[]::new);
+            int[] cumulative = new int[operations.length];
+            int sum = 0;
+            for (int i = 0; i < operations.length; i++) {
+                sum += weights.get(operations[i]);
+                cumulative[i] = sum;
+            }
+            return new Mix(operations, cumulative);
+        }
+
+        Operation next() {
+            int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (roll < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+    }
+
+    /**
+     * Ids of employees that exist, so reads and updates target live rows and deletes never
+     * hit the same row twice.
+     */
+    private static final class IdPool {
+
+        private final List<Integer> ids = new ArrayList<>();
+
+        synchronized void add(int id) {
+            ids.add(id);
+        }
+
+        synchronized Integer random() {
+            return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+
+        synchronized Integer removeRandom() {
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int index = ThreadLocalRandom.current().nextInt(ids.size());
+            Integer id = ids.get(index);
+            ids.set(index, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+            return id;
+        }
+    }
+
+    private static final class Recorder {
+
+        private final Histogram total = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final Map<Operation, Histogram> byOperation = new EnumMap<>(Operation.class);
+        private final AtomicLong errors = new AtomicLong();
+
+        Recorder() {
+            for (Operation operation : Operation.values()) {
+                byOperation.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3));
+            }
+        }
+
+        void record(Operation operation, long latencyNanos, boolean success) {
+            long clamped = Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS);
+            total.recordValue(clamped);
+            byOperation.get(operation).recordValue(clamped);
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        String report(int rate, int clients, Duration duration, double throughput, double errorRate) {
+            StringBuilder report = new StringBuilder(String.format(
+                    "load test: target %d req/s for %s, %d client threads%n"
+                            + "throughput %.1f req/s, errors %d (%.3f%%)%n"
+                            + "%-8s %8s %9s %9s %9s %9s %9s%n",
+                    rate, duration, clients, throughput, errors.get(), errorRate * 100,
+                    "op", "count", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+            byOperation.forEach((operation, histogram) -> appendRow(report, operation.name().toLowerCase(Locale.ROOT), histogram));
+            appendRow(report, "all", total);
+            return report.toString();
+        }
+
+        private static void appendRow(StringBuilder report, String name, Histogram histogram) {
+            report.append(String.format("%-8s %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+                    histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50) / 1e6,
+                    histogram.getValueAtPercentile(90) / 1e6,
+                    histogram.getValueAtPercentile(99) / 1e6,
+                    histogram.getValueAtPercentile(99.9) / 1e6,
+                    histogram.getMaxValue() / 1e6));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.springboot;
+
+import com.example.springboot.model.ArchivedEmployee;
+import com.example.springboot.model.Employee;
+import com.example.springboot.repository.ArchivedEmployeeRepository;
+import com.example.springboot.repository.EmployeeRepository;
+import com.example.springboot.service.EmployeeArchiveService;
+import com.example.springboot.service.EmployeeService;
+import com.example.springboot.task.EmployeeArchiveTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// A batch of two makes a handful of deleted employees take several batches.
+@SpringBootTest(properties = "employees.archive.batch-size=2")
+@AutoConfigureMockMvc
+class EmployeeArchiveITCase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeArchiveTask employeeArchiveTask;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ArchivedEmployeeRepository archivedEmployeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeArchiveService employeeArchiveService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employeeArchiveTask.archive();
+        archivedEmployeeRepository.deleteAll();
+    }
+
+    @Test
+    void deletedEmployeeIsHiddenThenMovedToTheArchive() throws Exception {
+        Employee john = employeeService.saveEmployee(employee("John", "john.doe@example.com"));
+        employeeService.saveEmployee(employee("Jane", "jane.doe@example.com"));
+
+        mockMvc.perform(delete("/api/employees/{id}", john.getId()))
+                .andExpect(status().isOk());
+
+        // Soft deleted: still in the table, but no query sees it and its email is free again.
+        mockMvc.perform(get("/api/employees/{id}", john.getId()))
+                .andExpect(status().isNotFound());
+        assertThat(employeeRepository.findByEmail("john.doe@example.com")).isEmpty();
+        assertThat(rowsInEmployees()).isEqualTo(2);
+        Employee rehired = employeeService.saveEmployee(employee("John", "john.doe@example.com"));
+
+        employeeArchiveTask.archive();
+
+        assertThat(rowsInEmployees()).isEqualTo(2);
+        assertThat(employeeRepository.findByEmail("john.doe@example.com")).get()
+                .extracting(Employee::getId).isEqualTo(rehired.getId());
+        assertThat(archivedEmployeeRepository.findAll()).singleElement()
+                .satisfies(archived -> {
+                    assertThat(archived.getId()).isEqualTo(john.getId());
+                    assertThat(archived.getEmail()).isEqualTo("john.doe@example.com");
+                    assertThat(archived.getDeletedAt()).isBeforeOrEqualTo(archived.getArchivedAt());
+                });
+        mockMvc.perform(get("/api/employees/archive").param("email", "john.doe@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(1)))
+                .andExpect(jsonPath("$.data[0].id", is(john.getId())));
+        mockMvc.perform(get("/api/employees/archive/{id}", john.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName", is("John")));
+    }
+
+    @Test
+    void archiveMovesEveryDeletedEmployeeInBatches() {
+        for (int i = 0; i < 5; i++) {
+            employeeService.deleteEmployee(employeeService.saveEmployee(employee("E" + i, "e" + i + "@example.com")).getId());
+        }
+
+        employeeArchiveTask.archive();
+
+        assertThat(rowsInEmployees()).isZero();
+        assertThat(archivedEmployeeRepository.findAll()).extracting(ArchivedEmployee::getEmail)
+                .containsExactlyInAnyOrder("e0@example.com", "e1@example.com", "e2@example.com",
+                        "e3@example.com", "e4@example.com");
+    }
+
+    @Test
+    void concurrentRunsMoveEachDeletedEmployeeOnce() throws Exception {
+        employeeService.deleteEmployee(employeeService.saveEmployee(employee("John", "john.doe@example.com")).getId());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // The first run has copied its batch but not committed when the second, like another instance, starts.
+        CountDownLatch copied = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            int moved = employeeArchiveService.archiveDeleted(2);
+            copied.countDown();
+            await(commit);
+            return moved;
+        }));
+        assertThat(copied.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> employeeArchiveService.archiveDeleted(2));
+        Thread.sleep(200);
+        commit.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isZero();
+        assertThat(rowsInEmployees()).isZero();
+        assertThat(archivedEmployeeRepository.findAll()).extracting(ArchivedEmployee::getEmail)
+                .containsExactly("john.doe@example.com");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Counts deleted rows too, which the repository cannot see.
+    private int rowsInEmployees() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Integer.class);
+    }
+
+    private static Employee employee(String firstName, String email) {
+        return Employee.builder()
+                .firstName(firstName)
+                .lastName("Doe")
+                .email(email)
+                .build();
+    }
+}
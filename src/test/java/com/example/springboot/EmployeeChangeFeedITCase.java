@@ -0,0 +1,70 @@
+package com.example.springboot;
+
+import com.example.springboot.model.EmployeeChange;
+import com.example.springboot.repository.EmployeeChangeRepository;
+import com.example.springboot.service.EmployeeChangeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Commits two outbox rows in the opposite order of their sequence numbers and checks that a
+ * consumer reading in between does not move its cursor past the one still in flight.
+ */
+@IntegrationTest
+class EmployeeChangeFeedITCase {
+
+    @Autowired
+    private EmployeeChangeService employeeChangeService;
+
+    @Autowired
+    private EmployeeChangeRepository employeeChangeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void changeCommittedAfterAHigherSequenceIsNotSkipped() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long since = employeeChangeRepository.findLatestSeq();
+
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<EmployeeChange> first = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    EmployeeChange change = employeeChangeService.recordDeleted(1001);
+                    inserted.countDown();
+                    await(commit);
+                    return change;
+                }));
+        assertThat(inserted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        EmployeeChange second = transactionTemplate.execute(status -> employeeChangeService.recordDeleted(1002));
+
+        // The higher sequence is committed, the lower one is not yet.
+        assertThat(employeeChangeService.getChangesSince(since, 10)).isEmpty();
+        assertThat(employeeChangeService.getLatestSeq()).isLessThan(second.getSeq());
+
+        commit.countDown();
+        EmployeeChange committedLast = first.get(5, TimeUnit.SECONDS);
+
+        assertThat(committedLast.getSeq()).isLessThan(second.getSeq());
+        assertThat(employeeChangeService.getChangesSince(since, 10)).extracting(EmployeeChange::getSeq)
+                .containsExactly(committedLast.getSeq(), second.getSeq());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.springboot;
+
+import com.example.springboot.importer.ImportFingerprint;
+import com.example.springboot.model.Employee;
+import com.example.springboot.model.EmployeeImport;
+import com.example.springboot.model.EmployeeImportReject;
+import com.example.springboot.model.ImportStatus;
+import com.example.springboot.repository.EmployeeChangeRepository;
+import com.example.springboot.repository.EmployeeImportRepository;
+import com.example.springboot.repository.EmployeeRepository;
+import com.example.springboot.service.EmployeeImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Small chunks and two workers make a short file exercise chunking, parallel writers and resuming.
+@SpringBootTest(properties = {
+        "employees.import.chunk-size=2",
+        "employees.import.parallelism=2"
+})
+class EmployeeImportITCase {
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeImportRepository employeeImportRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeChangeRepository employeeChangeRepository;
+
+    @BeforeEach
+    void setUp() {
+        employeeChangeRepository.deleteAll();
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void importStoresValidRowsAndReportsEveryReject() throws IOException {
+        employeeRepository.save(Employee.builder()
+                .firstName("Existing")
+                .lastName("Employee")
+                .email("existing@example.com")
+                .build());
+        Path file = csv("import.csv",
+                "first_name,last_name,email",
+                "John,Doe,john.doe@example.com",
+                "Jane,Doe,not-an-email",
+                "",
+                "Jim,Doe,existing@example.com",
+                "Jack,Doe",
+                "Jill,Doe,jill.doe@example.com",
+                "Johnny,Doe,john.doe@example.com",
+                "\"Doe, Jr.\",Jo,jo.doe@example.com");
+
+        EmployeeImport employeeImport = employeeImportService.importFile(file);
+
+        assertThat(employeeImport.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(employeeImport.getCommittedLine()).isEqualTo(9);
+        assertThat(employeeImport.getImportedRows()).isEqualTo(3);
+        assertThat(employeeImport.getRejectedRows()).isEqualTo(4);
+        assertThat(employeeRepository.findByEmail("jo.doe@example.com")).map(Employee::getFirstName).hasValue("Doe, Jr.");
+        assertThat(employeeChangeRepository.count()).isEqualTo(3);
+
+        List<EmployeeImportReject> rejects = employeeImportService.getRejects(employeeImport.getId(), 0, 10);
+        assertThat(rejects).extracting(EmployeeImportReject::getLineNumber).containsExactly(3L, 5L, 6L, 8L);
+        assertThat(rejects).extracting(EmployeeImportReject::getReason).containsExactly(
+                "Email must be a well-formed email address",
+                "Employee with the same email already exists",
+                "Expected at least 3 columns but found 2",
+                "Employee with the same email already exists");
+
+        StringWriter report = new StringWriter();
+        employeeImportService.writeRejectReport(employeeImport.getId(), report);
+        assertThat(report.toString()).startsWith(
+                "line,reason,row\n3,Email must be a well-formed email address,\"Jane,Doe,not-an-email\"\n");
+    }
+
+    @Test
+    void failedImportResumesAfterTheCommittedLine() throws IOException {
+        Path file = csv("resume.csv",
+                "firstName,lastName,email",
+                "Committed,Before,committed.before@example.com",
+                "Committed,Before,committed.again@example.com",
+                "Alice,Smith,alice@example.com",
+                "Bob,Smith,bob@example.com");
+        Instant now = Instant.now();
+        EmployeeImport failed = employeeImportRepository.save(EmployeeImport.builder()
+                .source(file.toAbsolutePath().normalize().toString())
+                .sourceFingerprint(ImportFingerprint.of(file))
+                .status(ImportStatus.FAILED)
+                .committedLine(3)
+                .importedRows(2)
+                .error("Connection reset")
+                .createdAt(now)
+                .updatedAt(now)
+                .finishedAt(now)
+                .build());
+
+        EmployeeImport resumed = employeeImportService.importFile(file);
+
+        assertThat(resumed.getId()).isEqualTo(failed.getId());
+        assertThat(resumed.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(resumed.getError()).isNull();
+        assertThat(resumed.getImportedRows()).isEqualTo(4);
+        assertThat(employeeRepository.findAll()).extracting(Employee::getEmail)
+                .containsExactlyInAnyOrder("alice@example.com", "bob@example.com");
+    }
+
+    @Test
+    void replacedFileStartsANewImportInsteadOfResuming() throws IOException {
+        Path file = csv("nightly.csv",
+                "firstName,lastName,email",
+                "Old,Dump,old.dump@example.com",
+                "Old,Dump,old.again@example.com",
+                "Old,Dump,old.third@example.com");
+        Instant now = Instant.now();
+        EmployeeImport failed = employeeImportRepository.save(EmployeeImport.builder()
+                .source(file.toAbsolutePath().normalize().toString())
+                .sourceFingerprint(ImportFingerprint.of(file))
+                .status(ImportStatus.FAILED)
+                .committedLine(3)
+                .importedRows(2)
+                .error("Connection reset")
+                .createdAt(now)
+                .updatedAt(now)
+                .finishedAt(now)
+                .build());
+
+        // The next night's dump lands at the same path.
+        csv("nightly.csv",
+                "firstName,lastName,email",
+                "Alice,Smith,alice@example.com",
+                "Bob,Smith,bob@example.com",
+                "Carol,Smith,carol@example.com");
+        EmployeeImport next = employeeImportService.importFile(file);
+
+        assertThat(next.getId()).isNotEqualTo(failed.getId());
+        assertThat(next.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(next.getImportedRows()).isEqualTo(3);
+        assertThat(employeeRepository.findAll()).extracting(Employee::getEmail)
+                .containsExactlyInAnyOrder("alice@example.com", "bob@example.com", "carol@example.com");
+        assertThat(employeeImportRepository.findById(failed.getId())).map(EmployeeImport::getStatus)
+                .hasValue(ImportStatus.FAILED);
+    }
+
+    private Path csv(String name, String... lines) throws IOException {
+        return Files.write(directory.resolve(name), List.of(lines));
+    }
+}
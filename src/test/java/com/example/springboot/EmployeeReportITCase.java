@@ -0,0 +1,114 @@
+package com.example.springboot;
+
+import com.example.springboot.dto.GroupCount;
+import com.example.springboot.model.Employee;
+import com.example.springboot.model.ImportStatus;
+import com.example.springboot.report.EmployeeSummaryTables;
+import com.example.springboot.repository.EmployeeChangeRepository;
+import com.example.springboot.repository.EmployeeRepository;
+import com.example.springboot.service.EmployeeImportService;
+import com.example.springboot.service.EmployeeReportService;
+import com.example.springboot.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "employees.reports.summary-tables=true")
+class EmployeeReportITCase {
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeReportService employeeReportService;
+
+    @Autowired
+    private EmployeeSummaryTables employeeSummaryTables;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeChangeRepository employeeChangeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        employeeChangeRepository.deleteAll();
+        employeeRepository.deleteAll();
+        employeeSummaryTables.rebuild();
+    }
+
+    @Test
+    void summaryTablesFollowEveryWriteAndMatchTheGroupByQueries() throws Exception {
+        Employee john = employeeService.saveEmployee(employee("John", "Doe", "john@Example.com"));
+        employeeService.saveEmployee(employee("Jane", "doe", "jane@example.com"));
+        Employee bob = employeeService.saveEmployee(employee("Bob", "Smith", "bob@example.org"));
+        Path file = Files.write(directory.resolve("employees.csv"), List.of(
+                "firstName,lastName,email",
+                "Alice,Adams,alice@example.org",
+                "Carol,Adams,carol@example.net"));
+        assertThat(employeeImportService.importFile(file).getStatus()).isEqualTo(ImportStatus.COMPLETED);
+
+        employeeService.updateEmployee(employee(john.getId(), "John", "Adams", "john@example.net"));
+        employeeService.deleteEmployee(bob.getId());
+
+        assertThat(employeeReportService.countByEmailDomain(Limit.unlimited())).containsExactly(
+                new GroupCount("example.net", 2),
+                new GroupCount("example.com", 1),
+                new GroupCount("example.org", 1));
+        assertThat(employeeReportService.countByEmailDomain(Limit.of(1)))
+                .containsExactly(new GroupCount("example.net", 2));
+        assertThat(employeeReportService.countByLastNameInitial()).containsExactly(
+                new GroupCount("A", 3),
+                new GroupCount("D", 1));
+
+        assertThat(employeeReportService.countByEmailDomain(Limit.unlimited()))
+                .isEqualTo(employeeRepository.countByEmailDomain(Limit.unlimited()));
+        assertThat(employeeReportService.countByLastNameInitial())
+                .isEqualTo(employeeRepository.countByLastNameInitial());
+    }
+
+    @Test
+    void populatedSummaryTablesAreNotRebuiltAtStartup() {
+        employeeService.saveEmployee(employee("John", "Doe", "john@example.com"));
+        // Written behind the service, so only a rebuild would count it.
+        jdbcTemplate.update("INSERT INTO employees (first_name, last_name, email) VALUES ('Jane', 'Doe', 'jane@example.com')");
+
+        employeeSummaryTables.afterSingletonsInstantiated();
+
+        assertThat(employeeReportService.countByEmailDomain(Limit.unlimited()))
+                .containsExactly(new GroupCount("example.com", 1));
+    }
+
+    private static Employee employee(String firstName, String lastName, String email) {
+        return employee(null, firstName, lastName, email);
+    }
+
+    private static Employee employee(Integer id, String firstName, String lastName, String email) {
+        return Employee.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.springboot;
+
+import com.example.springboot.model.Employee;
+import com.example.springboot.snapshot.OffHeapEmployeeStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares retained heap, off-heap footprint and GC pauses of the on-heap lookup path (the two
+ * Caffeine caches configured in application.properties, fully populated) against the off-heap
+ * snapshot. Each variant runs the same lookup loop with the same extra allocation per lookup, so
+ * the collectors see equal pressure and differ only in the live set they have to deal with.
+ * Run with: mvn verify -Dit.test=EmployeeSnapshotBenchmarkITCase -Dsnapshot.benchmark.entries=1000000
+ */
+@Isolated
+@EnabledIfSystemProperty(named = "snapshot.benchmark.entries", matches = ".+")
+class EmployeeSnapshotBenchmarkITCase {
+
+    private static final int LOOKUPS = 5_000_000;
+
+    private static volatile Object sink;
+
+    @Test
+    void compareFootprintAndGcPauses() throws Exception {
+        int entries = Integer.getInteger("snapshot.benchmark.entries");
+
+        Result onHeap = measure("on-heap", entries, () -> {
+            Cache<Long, Employee> byId = Caffeine.newBuilder().maximumSize(entries).build();
+            Cache<String, Employee> byEmail = Caffeine.newBuilder().maximumSize(entries).build();
+            for (int id = 1; id <= entries; id++) {
+                Employee employee = employee(id);
+                byId.put((long) id, employee);
+                byEmail.put(employee.getEmail(), employee);
+            }
+            return new Lookups(id -> Optional.ofNullable(byId.getIfPresent(id)),
+                    id -> Optional.ofNullable(byEmail.getIfPresent(email(id))));
+        });
+        Result offHeap = measure("off-heap", entries, () -> {
+            OffHeapEmployeeStore store = new OffHeapEmployeeStore(64 * 1024 * 1024);
+            for (int id = 1; id <= entries; id++) {
+                store.put(employee(id));
+            }
+            return new Lookups(store::getById, id -> store.getByEmail(email(id)));
+        });
+
+        String report = String.format("employee lookup footprint, %d entries, %d lookups, collectors %s%n"
+                        + "%-9s %12s %12s %13s %10s %14s %14s%n%s%s",
+                entries, LOOKUPS, collectorNames(),
+                "path", "heap MB", "direct MB", "full GC ms", "GCs", "GC total ms", "GC max ms",
+                onHeap, offHeap);
+        System.out.print(report);
+        Files.writeString(Path.of("target", "snapshot-benchmark.txt"), report);
+
+        assertThat(offHeap.heapBytes).isLessThan(onHeap.heapBytes);
+    }
+
+    private Result measure(String name, int entries, Supplier<Lookups> populate) throws Exception {
+        long heapBefore = usedHeapAfterGc();
+        long directBefore = directMemoryUsed();
+        Lookups lookups = populate.get();
+        long heapBytes = usedHeapAfterGc() - heapBefore;
+        long directBytes = directMemoryUsed() - directBefore;
+
+        long fullGcStart = System.nanoTime();
+        System.gc();
+        long fullGcMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - fullGcStart);
+
+        List<Long> pauses = new ArrayList<>();
+        NotificationListener listener = (notification, handback) -> {
+            if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo
+                        .from((CompositeData) notification.getUserData());
+                synchronized (pauses) {
+                    pauses.add(info.getGcInfo().getDuration());
+                }
+            }
+        };
+        ManagementFactory.getGarbageCollectorMXBeans()
+                .forEach(gc -> ((NotificationEmitter) gc).addNotificationListener(listener, null, null));
+        try {
+            SplittableRandom random = new SplittableRandom(42);
+            AtomicLong hits = new AtomicLong();
+            for (int i = 0; i < LOOKUPS; i++) {
+                long id = random.nextInt(entries) + 1;
+                Optional<Employee> employee = (i & 1) == 0 ? lookups.byId.apply(id) : lookups.byEmail.apply(id);
+                if (employee.isPresent()) {
+                    hits.incrementAndGet();
+                }
+                // Request-scoped garbage a real lookup would produce around the cache access.
+                sink = new byte[128];
+            }
+            assertThat(hits.get()).isEqualTo(LOOKUPS);
+            // Notifications are delivered asynchronously.
+            Thread.sleep(500);
+        } finally {
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                ((NotificationEmitter) gc).removeNotificationListener(listener);
+            }
+        }
+
+        synchronized (pauses) {
+            return new Result(name, heapBytes, directBytes, fullGcMillis, pauses.size(),
+                    pauses.stream().mapToLong(Long::longValue).sum(),
+                    pauses.stream().mapToLong(Long::longValue).max().orElse(0));
+        }
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long directMemoryUsed() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> "direct".equals(pool.getName()))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+
+    private static String collectorNames() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .map(GarbageCollectorMXBean::getName)
+                .toList()
+                .toString();
+    }
+
+    private static Employee employee(int id) {
+        return new Employee(id, "First" + id, "Last" + id, email(id));
+    }
+
+    private static String email(long id) {
+        return "employee" + id + "@example.com";
+    }
+
+    private record Lookups(LongFunction<Optional<Employee>> byId, LongFunction<Optional<Employee>> byEmail) {
+    }
+
+    private record Result(String name, long heapBytes, long directBytes, long fullGcMillis, int gcCount,
+                          long gcTotalMillis, long gcMaxMillis) {
+
+        @Override
+        public String toString() {
+            return String.format("%-9s %12.1f %12.1f %13d %10d %14d %14d%n", name,
+                    heapBytes / 1048576.0, directBytes / 1048576.0, fullGcMillis, gcCount, gcTotalMillis, gcMaxMillis);
+        }
+    }
+}
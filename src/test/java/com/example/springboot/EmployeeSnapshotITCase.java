@@ -0,0 +1,102 @@
+package com.example.springboot;
+
+import com.example.springboot.model.Employee;
+import com.example.springboot.repository.EmployeeRepository;
+import com.example.springboot.service.EmployeeService;
+import com.example.springboot.snapshot.EmployeeSnapshot;
+import com.example.springboot.snapshot.SnapshotEmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "employees.snapshot.enabled=true",
+        "employees.snapshot.refresh-interval=PT1H"
+})
+@AutoConfigureMockMvc
+class EmployeeSnapshotITCase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeSnapshot employeeSnapshot;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void lookupsAreServedFromSnapshotAndFollowTheOutbox() {
+        assertThat(employeeService).isInstanceOf(SnapshotEmployeeService.class);
+        Employee john = employeeService.saveEmployee(Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .build());
+        Employee jane = employeeService.saveEmployee(Employee.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .email("jane.doe@example.com")
+                .build());
+        employeeSnapshot.refresh();
+        assertThat(employeeSnapshot.getById(john.getId())).isPresent();
+
+        // Removing the row behind the outbox's back shows which lookups the snapshot answers.
+        employeeRepository.deleteById(jane.getId().longValue());
+        assertThat(employeeService.getEmployeeById(jane.getId())).map(Employee::getEmail).hasValue("jane.doe@example.com");
+        assertThat(employeeService.findByEmail("jane.doe@example.com")).map(Employee::getId).hasValue(jane.getId());
+        assertThat(employeeService.getEmployeesByIds(List.of(jane.getId().longValue(), john.getId().longValue())))
+                .containsOnlyKeys(jane.getId().longValue(), john.getId().longValue());
+
+        employeeService.updateEmployee(Employee.builder()
+                .id(john.getId())
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@example.com")
+                .build());
+        employeeSnapshot.refresh();
+        assertThat(employeeSnapshot.getByEmail("john@example.com")).map(Employee::getId).hasValue(john.getId());
+        assertThat(employeeSnapshot.getByEmail("john.doe@example.com")).isEmpty();
+
+        employeeService.deleteEmployee(john.getId());
+        employeeSnapshot.refresh();
+        assertThat(employeeSnapshot.getById(john.getId())).isEmpty();
+        assertThat(employeeService.getEmployeeById(john.getId())).isEmpty();
+    }
+
+    @Test
+    void localWritesReachTheSnapshotOnCommitAndWriteChecksSkipIt() throws Exception {
+        employeeSnapshot.refresh();
+        Employee alice = employeeService.saveEmployee(Employee.builder()
+                .firstName("Alice")
+                .lastName("Smith")
+                .email("alice.smith@example.com")
+                .build());
+
+        // No refresh in between: the commit itself updated the snapshot.
+        assertThat(employeeSnapshot.getByEmail("alice.smith@example.com")).map(Employee::getId).hasValue(alice.getId());
+
+        // Another client's delete, which the snapshot has not seen yet.
+        employeeRepository.deleteById(alice.getId().longValue());
+        assertThat(employeeSnapshot.getById(alice.getId())).isPresent();
+
+        mockMvc.perform(delete("/api/employees/{id}", alice.getId()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/employees")
+                        .contentType("application/json")
+                        .content("{\"firstName\":\"Alice\",\"lastName\":\"Smith\",\"email\":\"alice.smith@example.com\"}"))
+                .andExpect(status().isOk());
+    }
+}
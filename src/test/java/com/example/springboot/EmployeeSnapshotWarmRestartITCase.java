@@ -0,0 +1,103 @@
+package com.example.springboot;
+
+import com.example.springboot.model.Employee;
+import com.example.springboot.service.EmployeeService;
+import com.example.springboot.snapshot.EmployeeSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Restarts the application against the same database and checks that the second instance serves
+ * lookups from the saved snapshot and then catches up through the outbox.
+ */
+class EmployeeSnapshotWarmRestartITCase {
+
+    private static final String DATABASE_URL = "jdbc:h2:mem:warm-restart;DB_CLOSE_DELAY=-1";
+
+    private static final String RESET_DATABASE_URL = "jdbc:h2:mem:warm-restart-reset";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void restartedInstanceServesSavedSnapshotAndReplaysMissedChanges() {
+        Path file = directory.resolve("employees.snapshot");
+        Employee john;
+        Employee jane;
+        try (ConfigurableApplicationContext first = start(DATABASE_URL, file)) {
+            EmployeeService employeeService = first.getBean(EmployeeService.class);
+            john = employeeService.saveEmployee(employee("John", "john.doe@example.com"));
+            jane = employeeService.saveEmployee(employee("Jane", "jane.doe@example.com"));
+            first.getBean(EmployeeSnapshot.class).refresh();
+        }
+        assertThat(file).exists();
+
+        // While no instance runs: one change goes through the outbox, one row disappears without a trace.
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(DATABASE_URL, "sa", ""));
+        jdbcTemplate.update("UPDATE employees SET email = 'john@example.com' WHERE id = ?", john.getId());
+        jdbcTemplate.update("INSERT INTO employee_changes (employee_id, type, first_name, last_name, email, occurred_at) "
+                + "VALUES (?, 'UPDATED', 'John', 'Doe', 'john@example.com', CURRENT_TIMESTAMP)", john.getId());
+        jdbcTemplate.update("DELETE FROM employees WHERE id = ?", jane.getId());
+
+        try (ConfigurableApplicationContext second = start(DATABASE_URL, file)) {
+            EmployeeService employeeService = second.getBean(EmployeeService.class);
+            EmployeeSnapshot employeeSnapshot = second.getBean(EmployeeSnapshot.class);
+
+            // Only the saved snapshot still knows Jane.
+            assertThat(employeeService.getEmployeeById(jane.getId())).map(Employee::getEmail)
+                    .hasValue("jane.doe@example.com");
+
+            employeeSnapshot.refresh();
+            assertThat(employeeSnapshot.getByEmail("john@example.com")).map(Employee::getId).hasValue(john.getId());
+            assertThat(employeeSnapshot.getByEmail("john.doe@example.com")).isEmpty();
+        }
+    }
+
+    @Test
+    void snapshotAheadOfTheOutboxIsDiscarded() {
+        Path file = directory.resolve("employees.snapshot");
+        Employee john;
+        try (ConfigurableApplicationContext first = start(RESET_DATABASE_URL + "-before", file)) {
+            john = first.getBean(EmployeeService.class).saveEmployee(employee("John", "john.doe@example.com"));
+            first.getBean(EmployeeSnapshot.class).refresh();
+        }
+
+        // A database that was reset, so the saved outbox position lies in its future.
+        try (ConfigurableApplicationContext second = start(RESET_DATABASE_URL + "-after", file)) {
+            EmployeeSnapshot employeeSnapshot = second.getBean(EmployeeSnapshot.class);
+
+            assertThat(employeeSnapshot.isLoaded()).isFalse();
+            assertThat(second.getBean(EmployeeService.class).getEmployeeById(john.getId())).isEmpty();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String databaseUrl, Path file) {
+        return new SpringApplicationBuilder(SpringBootTestingApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + databaseUrl,
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "spring.jpa.show-sql=false",
+                        "employees.snapshot.enabled=true",
+                        "employees.snapshot.refresh-interval=PT1H",
+                        "employees.snapshot.file=" + file)
+                .run();
+    }
+
+    private static Employee employee(String firstName, String email) {
+        return Employee.builder()
+                .firstName(firstName)
+                .lastName("Doe")
+                .email(email)
+                .build();
+    }
+}
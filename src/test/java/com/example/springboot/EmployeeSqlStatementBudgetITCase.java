@@ -0,0 +1,180 @@
+package com.example.springboot;
+
+import com.example.springboot.SqlStatementCounter.SqlStatements;
+import com.example.springboot.dto.EmployeeLookupRequest;
+import com.example.springboot.idempotency.IdempotencyFilter;
+import com.example.springboot.model.Employee;
+import com.example.springboot.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements each /api/employees endpoint issues against a cold cache,
+ * so an N+1 or an extra round trip fails the build. When a change legitimately alters a count,
+ * update the expectation in the same commit and say why.
+ */
+@IntegrationTest
+class EmployeeSqlStatementBudgetITCase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Employee existing;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        existing = employeeRepository.save(employee("John", "john.doe@example.com"));
+        employeeRepository.save(employee("Jane", "jane.doe@example.com"));
+        employeeRepository.save(employee("Jim", "jim.doe@example.com"));
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    void createEmployee() throws Exception {
+        mockMvc.perform(post("/api/employees")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(employee("Jack", "jack.doe@example.com"))))
+                .andExpect(status().isOk());
+
+        // duplicate-email check, employee row, outbox row
+        assertThat(SqlStatementCounter.counts()).isEqualTo(SqlStatements.of(1, 2, 0, 0));
+    }
+
+    @Test
+    void createEmployeeWithDuplicateEmail() throws Exception {
+        mockMvc.perform(post("/api/employees")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(employee("John", "john.doe@example.com"))))
+                .andExpect(status().isBadRequest());
+
+        assertThat(SqlStatementCounter.counts()).isEqualTo(SqlStatements.of(1, 0, 0, 0));
+    }
+
+    @Test
+    void createEmployeeReplayedWithIdempotencyKey() throws Exception {
+        String body = objectMapper.writeValueAsString(employee("Jack", "jack.doe@example.com"));
+        mockMvc.perform(post("/api/employees")
+                        .header(IdempotencyFilter.HEADER, "create-jack")
+                        .contentType("application/json")
+                        .content(body))
+                .andExpect(status().isOk());
+        SqlStatementCounter.reset();
+
+        mockMvc.perform(post("/api/employees")
+                        .header(IdempotencyFilter.HEADER, "create-jack")
+                        .contentType("application/json")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+
+        // the retry is answered from the idempotency store without reaching the service
+        assertThat(SqlStatementCounter.counts()).isEqualTo(SqlStatements.none());
+    }
+
+    @Test
+    void getAllEmployees() throws Exception {
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk());
+
+        // one query regardless of the number of rows
+        assertThat(SqlStatementCounter.counts()).isEqualTo(SqlStatements.of(1, 0, 0, 0));
+    }
+
+    @Test
+    void getEmployeeById() throws Exception {
+        mockMvc.perform(get("/api/employees/{id}", existing.getId()))
+                .andExpect(status().isOk());
+        assertThat(SqlStatementCounter.counts()).isEqualTo(SqlStatements.of(1, 0, 0, 0));
+
+        SqlStatementCounter.reset();
+        mockMvc.perform(get("/api/employees/{id}", existing.getId()))
+                .andExpect(status().isOk());
+        assertThat(SqlStatementCounter.counts()).isEqualTo(SqlStatements.none());
+    }
+
+    @Test
+    void lookupEmployees() throws Exception {
+        mockMvc.perform(post("/api/employees/lookup")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(new EmployeeLookupRequest(
+                                List.of(existing.getId().longValue(), (long) Integer.MAX_VALUE),
+                                List.of("jane.doe@example.com", "jim.doe@example.com", "nobody@example.com")))))
+                .andExpect(status().isOk());
+
+        // one IN query for the ids and one for the emails, however many are requested
+        assertThat(SqlStatementCounter.counts()).isEqualTo(SqlStatements.of(2, 0, 0, 0));
+    }
+
+    @Test
+    void reports() throws Exception {
+        mockMvc.perform(get("/api/employees/reports/email-domains"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees/reports/last-name-initials"))
+                .andExpect(status().isOk());
+
+        // one GROUP BY each, regardless of the number of employees
+        assertThat(SqlStatementCounter.counts()).isEqualTo(SqlStatements.of(2, 0, 0, 0));
+    }
+
+    @Test
+    void getMissingEmployee() throws Exception {
+        mockMvc.perform(get("/api/employees/{id}", Integer.MAX_VALUE))
+                .andExpect(status().isNotFound());
+
+        assertThat(SqlStatementCounter.counts()).isEqualTo(SqlStatements.of(1, 0, 0, 0));
+    }
+
+    @Test
+    void updateEmployee() throws Exception {
+        Employee update = employee("John", "john@example.com");
+        update.setId(existing.getId());
+
+        mockMvc.perform(put("/api/employees/{id}", existing.getId())
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        // existence check, employee row, outbox row; the service's reload is served by the
+        // request's open-in-view persistence context
+        assertThat(SqlStatementCounter.counts()).isEqualTo(SqlStatements.of(1, 1, 1, 0));
+    }
+
+    @Test
+    void deleteEmployee() throws Exception {
+        mockMvc.perform(delete("/api/employees/{id}", existing.getId()))
+                .andExpect(status().isOk());
+
+        // existence check, outbox row, soft delete of the employee row
+        assertThat(SqlStatementCounter.counts()).isEqualTo(SqlStatements.of(1, 1, 1, 0));
+    }
+
+    private static Employee employee(String firstName, String email) {
+        return Employee.builder()
+                .firstName(firstName)
+                .lastName("Doe")
+                .email(email)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.springboot;
+
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Boots the whole application with MockMvc and the {@link SqlStatementCounter}. Every ITCase that
+ * needs no properties of its own uses this one configuration, so they share a single cached
+ * context instead of each starting another. Put a property here only if it changes nothing for
+ * the other tests; anything that does belongs on a separate {@code @SpringBootTest}.
+ * <p>
+ * The classes sharing the context also share its database, so they hold the {@link #DATABASE}
+ * lock and never run concurrently with each other. A class with a context of its own also has a
+ * database of its own and needs no lock; a group of classes sharing another context takes a lock
+ * named for that context, such as {@link #DATA_JPA_DATABASE}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SqlStatementCounter.class)
+@ResourceLock(IntegrationTest.DATABASE)
+public @interface IntegrationTest {
+
+    /**
+     * Resource lock for the database of the context shared by the classes with this annotation.
+     */
+    String DATABASE = "database";
+
+    /**
+     * Resource lock for the embedded database of the context shared by the plain {@code @DataJpaTest} classes.
+     */
+    String DATA_JPA_DATABASE = "data-jpa-database";
+}
@@ -0,0 +1,137 @@
+package com.example.springboot;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a packaged build of the application (jar or native executable) as a separate process
+ * on a free port, for the integration tests that measure or exercise real launches.
+ */
+final class LaunchedApplication implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    private final Process process;
+
+    private final int port;
+
+    private final File log;
+
+    private final long timeToFirstRequestMillis;
+
+    private LaunchedApplication(Process process, int port, File log, long timeToFirstRequestMillis) {
+        this.process = process;
+        this.port = port;
+        this.log = log;
+        this.timeToFirstRequestMillis = timeToFirstRequestMillis;
+    }
+
+    /**
+     * Starts the command and returns once {@code GET /api/employees} answers 200.
+     */
+    static LaunchedApplication start(List<String> command, Path workingDirectory) throws Exception {
+        int port = freePort();
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+        File log = workingDirectory.resolve("launch-" + port + ".log").toFile();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employees"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(fullCommand)
+                .directory(workingDirectory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited early, see " + log);
+                }
+                try {
+                    if (HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        long millis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+                        return new LaunchedApplication(process, port, log, millis);
+                    }
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("No successful request within " + STARTUP_TIMEOUT + ", see " + log);
+        } catch (Exception e) {
+            stop(process);
+            throw e;
+        }
+    }
+
+    long getTimeToFirstRequestMillis() {
+        return timeToFirstRequestMillis;
+    }
+
+    String getBaseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    HttpClient getHttpClient() {
+        return HTTP_CLIENT;
+    }
+
+    /**
+     * Resident set size of the process in kilobytes, or -1 where /proc is not available.
+     */
+    long getResidentSetSizeKb() throws IOException {
+        Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+        if (!Files.isReadable(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.replaceAll("\\D", ""))
+                .mapToLong(Long::parseLong)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        stop(process);
+    }
+
+    static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.springboot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Exercises the GraalVM native executable built by the {@code native} Maven profile over HTTP
+ * and compares its startup time and resident memory with the JVM jar. Only runs under that
+ * profile; the comparison goes to target/native-benchmark.txt.
+ */
+@Isolated
+@EnabledIfSystemProperty(named = "native.image", matches = ".+")
+class NativeImageITCase {
+
+    private final Path nativeImage = Path.of(System.getProperty("native.image", ""));
+
+    private final Path jar = Path.of(System.getProperty("native.benchmark.jar", ""));
+
+    @Test
+    void servesEmployeeApi() throws Exception {
+        try (LaunchedApplication app = LaunchedApplication.start(List.of(nativeImage.toString()), nativeImage.getParent())) {
+
+            HttpResponse<String> created = send(app, HttpRequest.newBuilder(uri(app, "/api/employees"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"john.doe@example.com\"}")));
+            assertThat(created.statusCode()).isEqualTo(200);
+            assertThat(created.body()).contains("\"id\":1", "\"firstName\":\"John\"");
+
+            HttpResponse<String> all = send(app, HttpRequest.newBuilder(uri(app, "/api/employees")).GET());
+            assertThat(all.body()).contains("\"total\":1", "john.doe@example.com");
+
+            HttpResponse<String> found = send(app, HttpRequest.newBuilder(uri(app, "/api/employees/1")).GET());
+            assertThat(found.statusCode()).isEqualTo(200);
+            assertThat(found.body()).contains("\"lastName\":\"Doe\"");
+
+            HttpResponse<String> missing = send(app, HttpRequest.newBuilder(uri(app, "/api/employees/99")).GET());
+            assertThat(missing.statusCode()).isEqualTo(404);
+            assertThat(missing.body()).contains("Employee with ID 99 not found");
+
+            HttpResponse<String> invalid = send(app, HttpRequest.newBuilder(uri(app, "/api/employees"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"firstName\":\"John\",\"email\":\"not-an-email\"}")));
+            assertThat(invalid.statusCode()).isEqualTo(400);
+            assertThat(invalid.body()).contains("\"field\":\"lastName\"", "\"field\":\"email\"");
+
+            HttpResponse<String> lookup = send(app, HttpRequest.newBuilder(uri(app, "/api/employees/lookup"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"ids\":[1,99],\"emails\":[\"john.doe@example.com\"]}")));
+            assertThat(lookup.statusCode()).isEqualTo(200);
+            assertThat(lookup.body()).contains("\"total\":3", "\"found\":false", "\"firstName\":\"John\"");
+
+            HttpResponse<String> domains = send(app,
+                    HttpRequest.newBuilder(uri(app, "/api/employees/reports/email-domains")).GET());
+            assertThat(domains.statusCode()).isEqualTo(200);
+            assertThat(domains.body()).contains("\"group\":\"example.com\"", "\"count\":1");
+
+            HttpResponse<String> submitted = send(app, HttpRequest.newBuilder(uri(app, "/api/employees/imports"))
+                    .header("Content-Type", "text/csv")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "firstName,lastName,email\nJane,Doe,jane.doe@example.com\nBad,Row,not-an-email\n")));
+            assertThat(submitted.statusCode()).isEqualTo(202);
+            assertThat(submitted.body()).contains("\"status\":\"QUEUED\"");
+            String importPath = submitted.headers().firstValue("Location").map(URI::create).map(URI::getPath).orElseThrow();
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(
+                    send(app, HttpRequest.newBuilder(uri(app, importPath)).GET()).body())
+                    .contains("\"status\":\"COMPLETED\"", "\"importedRows\":1", "\"rejectedRows\":1"));
+
+            HttpResponse<String> rejects = send(app, HttpRequest.newBuilder(uri(app, importPath + "/rejects")).GET());
+            assertThat(rejects.statusCode()).isEqualTo(200);
+            assertThat(rejects.body()).contains("\"lineNumber\":3", "not-an-email");
+
+            HttpResponse<String> deleted = send(app, HttpRequest.newBuilder(uri(app, "/api/employees/1")).DELETE());
+            assertThat(deleted.statusCode()).isEqualTo(200);
+
+            HttpResponse<String> changes = send(app, HttpRequest.newBuilder(uri(app, "/api/employees/changes")).GET());
+            assertThat(changes.body()).contains("\"CREATED\"", "\"DELETED\"");
+        }
+    }
+
+    @Test
+    void comparesStartupAndMemoryWithJvm() throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+        long nativeMillis;
+        long nativeRssKb;
+        try (LaunchedApplication app = LaunchedApplication.start(List.of(nativeImage.toString()), nativeImage.getParent())) {
+            nativeMillis = app.getTimeToFirstRequestMillis();
+            nativeRssKb = app.getResidentSetSizeKb();
+        }
+
+        long jvmMillis;
+        long jvmRssKb;
+        try (LaunchedApplication app = LaunchedApplication.start(List.of(java, "-jar", jar.toString()), jar.getParent())) {
+            jvmMillis = app.getTimeToFirstRequestMillis();
+            jvmRssKb = app.getResidentSetSizeKb();
+        }
+
+        String report = String.format("after first successful request%n"
+                        + "jvm    time-to-first-request=%d ms rss=%d kB%n"
+                        + "native time-to-first-request=%d ms rss=%d kB%n",
+                jvmMillis, jvmRssKb, nativeMillis, nativeRssKb);
+        System.out.print(report);
+        Files.writeString(nativeImage.getParent().resolve("native-benchmark.txt"), report);
+
+        assertThat(nativeMillis).isPositive();
+    }
+
+    private static URI uri(LaunchedApplication app, String path) {
+        return URI.create(app.getBaseUrl() + path);
+    }
+
+    private static HttpResponse<String> send(LaunchedApplication app, HttpRequest.Builder request) throws Exception {
+        return app.getHttpClient().send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
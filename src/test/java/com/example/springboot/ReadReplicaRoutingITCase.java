@@ -0,0 +1,150 @@
+package com.example.springboot;
+
+import com.example.springboot.cache.EmployeeCacheInvalidator;
+import com.example.springboot.datasource.ReadYourWritesContext;
+import com.example.springboot.event.EmployeeCacheInvalidationEvent;
+import com.example.springboot.model.Employee;
+import com.example.springboot.service.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two separate in-memory H2 databases stand in for primary and replica. They do not replicate,
+ * which makes it visible where each read was served from.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "employees.datasource.replica.jdbc-url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql'",
+        "employees.datasource.replica.username=sa",
+        "employees.datasource.read-your-writes-window=PT30S"
+})
+class ReadReplicaRoutingITCase {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EmployeeCacheInvalidator employeeCacheInvalidator;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.update("DELETE FROM employees");
+        replica.update("INSERT INTO employees (id, first_name, last_name, email) VALUES (100, 'Rita', 'Replica', 'rita@example.com')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void readsAreServedByReplica() {
+        assertThat(employeeService.getEmployeeById(100)).map(Employee::getLastName).hasValue("Replica");
+        assertThat(employeeService.findByEmail("rita@example.com")).isPresent();
+        assertThat(employeeService.getAllEmployees()).extracting(Employee::getEmail).containsExactly("rita@example.com");
+    }
+
+    @Test
+    void writesGoToPrimaryAndPinnedReadsSeeThem() {
+        Employee saved = employeeService.saveEmployee(Employee.builder()
+                .firstName("Paul")
+                .lastName("Primary")
+                .email("paul@example.com")
+                .build());
+
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM employees WHERE email = 'paul@example.com'", Integer.class))
+                .isZero();
+        assertThat(employeeService.getEmployeeById(saved.getId())).isEmpty();
+
+        ReadYourWritesContext.pinToPrimary();
+        assertThat(employeeService.getEmployeeById(saved.getId())).map(Employee::getEmail).hasValue("paul@example.com");
+    }
+
+    @Test
+    void clientReadsItsOwnWriteThroughStickinessCookie() {
+        ResponseEntity<Employee> created = restTemplate.postForEntity("/api/employees", Employee.builder()
+                .firstName("Carla")
+                .lastName("Client")
+                .email("carla@example.com")
+                .build(), Employee.class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String cookie = created.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+        assertThat(cookie).startsWith("primary-until=");
+
+        String path = "/api/employees/" + created.getBody().getId();
+        assertThat(restTemplate.getForEntity(path, String.class).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.COOKIE, cookie.split(";")[0]);
+        ResponseEntity<Employee> pinned = restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), Employee.class);
+        assertThat(pinned.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(pinned.getBody().getEmail()).isEqualTo("carla@example.com");
+    }
+
+    @Test
+    void forgedStickinessCookieDoesNotPinReadsToThePrimary() {
+        Employee saved = employeeService.saveEmployee(Employee.builder()
+                .firstName("Fred")
+                .lastName("Forger")
+                .email("fred@example.com")
+                .build());
+        String path = "/api/employees/" + saved.getId();
+
+        for (String forged : List.of("primary-until=" + Long.MAX_VALUE, "primary-until=" + Long.MAX_VALUE + ".AAAA")) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.add(HttpHeaders.COOKIE, forged);
+            ResponseEntity<String> read = restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+            assertThat(read.getStatusCode()).as(forged).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Test
+    void replicaReadRightAfterInvalidationIsNotCached() {
+        // A write committed on the primary that the replica has not applied yet.
+        employeeCacheInvalidator.onEmployeeWrite(EmployeeCacheInvalidationEvent.of(100L, "rita@example.com"));
+        assertThat(employeeService.getEmployeeById(100)).map(Employee::getLastName).hasValue("Replica");
+
+        replica.update("UPDATE employees SET last_name = 'Caught-Up' WHERE id = 100");
+
+        assertThat(employeeService.getEmployeeById(100)).map(Employee::getLastName).hasValue("Caught-Up");
+    }
+
+    @Test
+    void metricsArePublishedPerPool() {
+        employeeService.getEmployeeById(100);
+
+        assertThat(meterRegistry.get("employees.datasource.routed").tag("pool", "replica").counter().count()).isPositive();
+        assertThat(meterRegistry.get("hikaricp.connections.active").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections.active").tag("pool", "replica").gauge()).isNotNull();
+    }
+}
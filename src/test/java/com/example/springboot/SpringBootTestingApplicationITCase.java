@@ -1,13 +1,39 @@
 package com.example.springboot;
 
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
 
-@SpringBootTest
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IntegrationTest
 class SpringBootTestingApplicationITCase {
 
+	@Autowired
+	private ApplicationContext context;
+
 	@Test
 	void contextLoads() {
 	}
 
+	// Properties classes are registered by scanning, so a new one needs no entry anywhere else.
+	@Test
+	void everyPropertiesClassIsBound() {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+		scanner.addIncludeFilter(new AnnotationTypeFilter(ConfigurationProperties.class));
+		List<String> propertiesClasses = scanner.findCandidateComponents(getClass().getPackageName()).stream()
+				.map(candidate -> candidate.getBeanClassName())
+				.toList();
+
+		assertThat(propertiesClasses).contains("com.example.springboot.config.OutboxProperties");
+		assertThat(propertiesClasses).allSatisfy(className -> assertThat(context.getBeanNamesForType(Class.forName(className)))
+				.as("beans of %s", className)
+				.hasSize(1));
+	}
+
 }
@@ -0,0 +1,56 @@
+package com.example.springboot;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's {@code dataSource} in a datasource-proxy that counts executed statements
+ * per thread. MockMvc runs a request on the calling test thread, so {@link #reset()} before a
+ * request and {@link #counts()} after it give exactly the statements that request issued.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlStatementCounter {
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .countQuery()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    public static void reset() {
+        QueryCountHolder.clear();
+    }
+
+    public static SqlStatements counts() {
+        QueryCount count = QueryCountHolder.getGrandTotal();
+        return new SqlStatements(count.getSelect(), count.getInsert(), count.getUpdate(), count.getDelete(),
+                count.getOther());
+    }
+
+    public record SqlStatements(long select, long insert, long update, long delete, long other) {
+
+        public static SqlStatements of(long select, long insert, long update, long delete) {
+            return new SqlStatements(select, insert, update, delete, 0);
+        }
+
+        public static SqlStatements none() {
+            return of(0, 0, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.springboot;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application with the {@code startup} profile, where beans are created on first use,
+ * and checks that every bean with a {@code @Scheduled} method is still created at startup; a lazy
+ * one would never register its task.
+ */
+@SpringBootTest(properties = {
+        "employees.snapshot.enabled=true",
+        "employees.cache.invalidation-bus=database"})
+@ActiveProfiles("startup")
+class StartupProfileITCase {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    void everyScheduledBeanIsCreatedAtStartup() {
+        List<String> scheduledBeans = Arrays.stream(beanFactory.getBeanDefinitionNames())
+                .filter(name -> hasScheduledMethod(beanFactory.getType(name, false)))
+                .toList();
+
+        assertThat(scheduledBeans).contains("employeeArchiveTask", "employeeChangeCleanupTask");
+        assertThat(scheduledBeans).allSatisfy(name -> assertThat(beanFactory.containsSingleton(name))
+                .as("bean '%s' was created", name)
+                .isTrue());
+    }
+
+    private static boolean hasScheduledMethod(Class<?> type) {
+        return type != null && Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(ClassUtils.getUserClass(type)))
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+    }
+}
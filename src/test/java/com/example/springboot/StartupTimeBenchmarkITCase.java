@@ -0,0 +1,57 @@
+package com.example.springboot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.springboot.LaunchedApplication.median;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures time-to-first-successful-request of the packaged application, comparing a plain
+ * {@code java -jar} launch with the AOT + CDS + lazy-init launch built by the {@code startup}
+ * Maven profile. Only runs under that profile; results go to target/startup-benchmark.txt.
+ */
+@Isolated
+@EnabledIfSystemProperty(named = "startup.benchmark.jar", matches = ".+")
+class StartupTimeBenchmarkITCase {
+
+    @Test
+    void measureTimeToFirstSuccessfulRequest() throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Path jar = Path.of(System.getProperty("startup.benchmark.jar"));
+        Path startupDir = Path.of(System.getProperty("startup.benchmark.dir"));
+        int iterations = Integer.getInteger("startup.benchmark.iterations", 3);
+
+        List<String> plain = List.of(java, "-jar", jar.toString());
+        List<String> optimized = List.of(java, "-XX:SharedArchiveFile=application.jsa",
+                "-Dspring.aot.enabled=true", "-Dspring.profiles.active=startup",
+                "-jar", jar.getFileName().toString());
+
+        long[] plainMillis = new long[iterations];
+        long[] optimizedMillis = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            try (LaunchedApplication app = LaunchedApplication.start(plain, jar.getParent())) {
+                plainMillis[i] = app.getTimeToFirstRequestMillis();
+            }
+            try (LaunchedApplication app = LaunchedApplication.start(optimized, startupDir)) {
+                optimizedMillis[i] = app.getTimeToFirstRequestMillis();
+            }
+        }
+
+        String report = String.format("time-to-first-successful-request (ms), %d runs%n"
+                        + "jvm       median=%d runs=%s%n"
+                        + "optimized median=%d runs=%s%n",
+                iterations, median(plainMillis), Arrays.toString(plainMillis),
+                median(optimizedMillis), Arrays.toString(optimizedMillis));
+        System.out.print(report);
+        Files.writeString(jar.getParent().resolve("startup-benchmark.txt"), report);
+
+        assertThat(median(optimizedMillis)).isPositive();
+    }
+}
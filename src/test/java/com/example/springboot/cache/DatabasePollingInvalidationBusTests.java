@@ -0,0 +1,101 @@
+package com.example.springboot.cache;
+
+import com.example.springboot.IntegrationTest;
+import com.example.springboot.config.CacheConfig;
+import com.example.springboot.config.CacheInvalidationProperties;
+import com.example.springboot.event.EmployeeCacheInvalidationEvent;
+import com.example.springboot.repository.CacheInvalidationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ResourceLock(IntegrationTest.DATA_JPA_DATABASE)
+public class DatabasePollingInvalidationBusTests {
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void givenBroadcastOnOneNode_whenPeerPolls_thenPeerReceivesKeysOnce() {
+
+        // given - precondition or setup
+        CacheInvalidationProperties properties = new CacheInvalidationProperties();
+        DatabasePollingInvalidationBus writer = new DatabasePollingInvalidationBus(cacheInvalidationRepository, properties);
+        DatabasePollingInvalidationBus peer = new DatabasePollingInvalidationBus(cacheInvalidationRepository, properties);
+        List<EmployeeCacheInvalidationEvent> received = new ArrayList<>();
+        peer.subscribe(received::add);
+        peer.poll();
+
+        // when - action or the behavior that we are going to test
+        writer.broadcast(EmployeeCacheInvalidationEvent.of(7L, "john.doe@example.com"));
+        peer.poll();
+        peer.poll();
+
+        // then - verify the output
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).ids()).isEqualTo(Set.of(7L));
+        assertThat(received.get(0).emails()).isEqualTo(Set.of("john.doe@example.com"));
+    }
+
+    @Test
+    public void givenRowsBeforeStartup_whenFirstPoll_thenHistoryIsSkipped() {
+
+        // given - precondition or setup
+        CacheInvalidationProperties properties = new CacheInvalidationProperties();
+        new DatabasePollingInvalidationBus(cacheInvalidationRepository, properties)
+                .broadcast(EmployeeCacheInvalidationEvent.of(1L, "old@example.com"));
+        DatabasePollingInvalidationBus peer = new DatabasePollingInvalidationBus(cacheInvalidationRepository, properties);
+        List<EmployeeCacheInvalidationEvent> received = new ArrayList<>();
+        peer.subscribe(received::add);
+
+        // when - action or the behavior that we are going to test
+        peer.poll();
+        peer.poll();
+
+        // then - verify the output
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    public void givenBroadcastsCommittingOutOfOrder_whenPeerPolls_thenTheLowerVersionIsNotSkipped() {
+
+        // given - precondition or setup
+        DatabasePollingInvalidationBus peer = new DatabasePollingInvalidationBus(cacheInvalidationRepository,
+                new CacheInvalidationProperties());
+        List<EmployeeCacheInvalidationEvent> received = new ArrayList<>();
+        peer.subscribe(received::add);
+        peer.poll();
+        long latest = cacheInvalidationRepository.findLatestVersion();
+
+        // when - action or the behavior that we are going to test
+        // The later broadcast commits first, so the peer reads its version before the earlier one exists.
+        insert(latest + 2, "2");
+        peer.poll();
+        insert(latest + 1, "1");
+        peer.poll();
+        peer.poll();
+
+        // then - verify the output
+        assertThat(received).extracting(EmployeeCacheInvalidationEvent::ids)
+                .containsExactly(Set.of(2L), Set.of(1L));
+        assertThat(peer.getGapCount()).isZero();
+    }
+
+    private void insert(long version, String employeeId) {
+        jdbcTemplate.update("INSERT INTO cache_invalidations (version, cache_name, cache_key, created_at) "
+                + "VALUES (?, ?, ?, ?)", version, CacheConfig.EMPLOYEES_BY_ID, employeeId, Instant.now());
+    }
+}
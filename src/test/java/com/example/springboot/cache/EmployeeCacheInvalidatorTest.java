@@ -0,0 +1,69 @@
+package com.example.springboot.cache;
+
+import com.example.springboot.config.CacheConfig;
+import com.example.springboot.event.EmployeeCacheInvalidationEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeCacheInvalidatorTest {
+
+    private CacheManager writerNode;
+
+    private CacheManager peerNode;
+
+    private EmployeeCacheInvalidator writerInvalidator;
+
+    private EmployeeCacheInvalidator peerInvalidator;
+
+    @BeforeEach
+    public void setUp() {
+        // Two "instances" with their own caches, connected by one bus.
+        InvalidationBus bus = new LocalInvalidationBus();
+        writerNode = new ConcurrentMapCacheManager(CacheConfig.EMPLOYEES_BY_ID, CacheConfig.EMPLOYEES_BY_EMAIL);
+        peerNode = new ConcurrentMapCacheManager(CacheConfig.EMPLOYEES_BY_ID, CacheConfig.EMPLOYEES_BY_EMAIL);
+        writerInvalidator = new EmployeeCacheInvalidator(writerNode, bus, Duration.ofSeconds(5));
+        peerInvalidator = new EmployeeCacheInvalidator(peerNode, bus, Duration.ofSeconds(5));
+
+        for (CacheManager node : new CacheManager[]{writerNode, peerNode}) {
+            node.getCache(CacheConfig.EMPLOYEES_BY_ID).put(1L, "John");
+            node.getCache(CacheConfig.EMPLOYEES_BY_ID).put(2L, "Marry");
+            node.getCache(CacheConfig.EMPLOYEES_BY_EMAIL).put("john.doe@example.com", "John");
+            node.getCache(CacheConfig.EMPLOYEES_BY_EMAIL).put("john@example.com", "John");
+        }
+    }
+
+    @Test
+    public void givenCommittedWrite_whenInvalidated_thenBothNodesEvictIdAndEmails() {
+
+        // when - action or the behavior that we are going to test
+        writerInvalidator.onEmployeeWrite(EmployeeCacheInvalidationEvent.of(1L, "john.doe@example.com", "john@example.com"));
+
+        // then - verify the output
+        for (CacheManager node : new CacheManager[]{writerNode, peerNode}) {
+            assertThat(node.getCache(CacheConfig.EMPLOYEES_BY_ID).get(1L)).isNull();
+            assertThat(node.getCache(CacheConfig.EMPLOYEES_BY_ID).get(2L)).isNotNull();
+            assertThat(node.getCache(CacheConfig.EMPLOYEES_BY_EMAIL).get("john.doe@example.com")).isNull();
+            assertThat(node.getCache(CacheConfig.EMPLOYEES_BY_EMAIL).get("john@example.com")).isNull();
+        }
+    }
+
+    @Test
+    public void givenInvalidatedKeys_whenAskedWithinWindow_thenOnlyThoseKeysAreSettling() {
+
+        // when - action or the behavior that we are going to test
+        writerInvalidator.onEmployeeWrite(EmployeeCacheInvalidationEvent.of(1L, "john.doe@example.com"));
+
+        // then - verify the output
+        for (EmployeeCacheInvalidator node : new EmployeeCacheInvalidator[]{writerInvalidator, peerInvalidator}) {
+            assertThat(node.isSettling(CacheConfig.EMPLOYEES_BY_ID, 1L)).isTrue();
+            assertThat(node.isSettling(CacheConfig.EMPLOYEES_BY_EMAIL, "john.doe@example.com")).isTrue();
+            assertThat(node.isSettling(CacheConfig.EMPLOYEES_BY_ID, 2L)).isFalse();
+        }
+    }
+}
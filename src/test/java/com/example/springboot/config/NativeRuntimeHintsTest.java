@@ -0,0 +1,79 @@
+package com.example.springboot.config;
+
+import com.example.springboot.dto.EmployeeLookupResult;
+import com.example.springboot.dto.GenericListResult;
+import com.example.springboot.dto.GroupCount;
+import com.example.springboot.model.Employee;
+import com.example.springboot.model.EmployeeImport;
+import com.example.springboot.model.EmployeeImportReject;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    public void givenRegistrar_whenRegisterHints_thenResponseTypesAreBindable() throws Exception {
+
+        // when - action or the behavior that we are going to test
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then - verify the output
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Employee.class.getMethod("getEmail"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Employee.class.getMethod("setEmail", String.class))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(GenericListResult.class.getMethod("getData"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Employee[].class)).accepts(hints);
+    }
+
+    @Test
+    public void givenRegistrar_whenRegisterHints_thenEveryListPayloadIsBindable() throws Exception {
+
+        // when - action or the behavior that we are going to test
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then - verify the output
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(GroupCount.class.getMethod("getCount"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(GroupCount[].class)).accepts(hints);
+    }
+
+    @Test
+    public void givenRegistrar_whenRegisterHints_thenLookupResultsAreBindable() throws Exception {
+
+        // when - action or the behavior that we are going to test
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then - verify the output
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(EmployeeLookupResult.class.getMethod("isFound"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(EmployeeLookupResult.class.getMethod("getEmail"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(EmployeeLookupResult.class.getMethod("getEmployee"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(EmployeeLookupResult[].class)).accepts(hints);
+    }
+
+    @Test
+    public void givenRegistrar_whenRegisterHints_thenImportResponsesAreBindable() throws Exception {
+
+        // when - action or the behavior that we are going to test
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then - verify the output
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(EmployeeImport.class.getMethod("getStatus"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(EmployeeImport.class.getMethod("getRejectedRows"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(EmployeeImportReject.class.getMethod("getReason"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(EmployeeImportReject.class.getMethod("getLineNumber"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(EmployeeImportReject[].class)).accepts(hints);
+    }
+
+    @Test
+    public void givenRegistrar_whenRegisterHints_thenH2DriverIsInstantiable() {
+
+        // when - action or the behavior that we are going to test
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then - verify the output
+        assertThat(RuntimeHintsPredicates.reflection().onType(org.h2.Driver.class)).accepts(hints);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.config.ArchiveProperties;
+import com.example.springboot.model.ArchivedEmployee;
+import com.example.springboot.service.EmployeeArchiveService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmployeeArchiveController.class)
+@Import(ArchiveProperties.class)
+public class EmployeeArchiveControllerTest {
+
+    @MockitoBean
+    private EmployeeArchiveService employeeArchiveService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void givenEmail_whenGetArchivedEmployees_thenReturnMatchingPage() throws Exception {
+
+        // given - precondition or setup
+        given(employeeArchiveService.getArchivedEmployeesByEmail("john@example.com", 5, 2))
+                .willReturn(List.of(archived(7, "john@example.com")));
+
+        // when - action or the behavior that we are going to test
+        mockMvc.perform(get("/api/employees/archive")
+                        .param("email", "john@example.com")
+                        .param("since", "5")
+                        .param("limit", "2"))
+
+                // then - verify the output
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(1)))
+                .andExpect(jsonPath("$.start", is(5)))
+                .andExpect(jsonPath("$.sort", is("id")))
+                .andExpect(jsonPath("$.data[0].id", is(7)))
+                .andExpect(jsonPath("$.data[0].email", is("john@example.com")));
+    }
+
+    @Test
+    public void givenMissingArchivedEmployee_whenGetById_thenReturnNotFound() throws Exception {
+
+        // given - precondition or setup
+        given(employeeArchiveService.getArchivedEmployee(42)).willReturn(Optional.empty());
+
+        // when - action or the behavior that we are going to test
+        mockMvc.perform(get("/api/employees/archive/{id}", 42))
+
+                // then - verify the output
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail", is("Archived employee with ID 42 not found")));
+    }
+
+    @Test
+    public void givenNegativeSince_whenGetArchivedEmployees_thenReturnBadRequestResponse() throws Exception {
+
+        mockMvc.perform(get("/api/employees/archive").param("since", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("Parameter 'since' must not be negative")));
+    }
+
+    private static ArchivedEmployee archived(int id, String email) {
+        return ArchivedEmployee.builder()
+                .id(id)
+                .firstName("John")
+                .lastName("Doe")
+                .email(email)
+                .deletedAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .archivedAt(Instant.parse("2024-01-01T00:01:00Z"))
+                .build();
+    }
+}
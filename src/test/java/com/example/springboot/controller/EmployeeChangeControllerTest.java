@@ -0,0 +1,71 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.config.OutboxProperties;
+import com.example.springboot.model.ChangeType;
+import com.example.springboot.model.EmployeeChange;
+import com.example.springboot.service.EmployeeChangeService;
+import com.example.springboot.stream.EmployeeChangeStreamer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmployeeChangeController.class)
+@Import(OutboxProperties.class)
+public class EmployeeChangeControllerTest {
+
+    @MockitoBean
+    private EmployeeChangeService employeeChangeService;
+
+    @MockitoBean
+    private EmployeeChangeStreamer employeeChangeStreamer;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void givenChangesAfterSeq_whenGetChanges_thenReturnDeltas() throws Exception {
+
+        // given - precondition or setup
+        EmployeeChange change = EmployeeChange.builder()
+                .seq(6L)
+                .employeeId(1L)
+                .type(ChangeType.UPDATED)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .occurredAt(Instant.now())
+                .build();
+
+        given(employeeChangeService.getChangesSince(5, 10)).willReturn(List.of(change));
+
+        // when - action or the behavior that we are going to test
+        mockMvc.perform(get("/api/employees/changes").param("since", "5").param("limit", "10"))
+
+                // then - verify the output
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(1)))
+                .andExpect(jsonPath("$.start", is(5)))
+                .andExpect(jsonPath("$.data[0].seq", is(6)))
+                .andExpect(jsonPath("$.data[0].type", is("UPDATED")));
+    }
+
+    @Test
+    public void givenNegativeSeq_whenGetChanges_thenReturnBadRequestResponse() throws Exception {
+
+        mockMvc.perform(get("/api/employees/changes").param("since", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("Parameter 'since' must not be negative")));
+    }
+}
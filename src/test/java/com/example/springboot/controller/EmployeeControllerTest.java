@@ -1,5 +1,7 @@
 package com.example.springboot.controller;
 
+import com.example.springboot.config.LookupProperties;
+import com.example.springboot.dto.EmployeeLookupRequest;
 import com.example.springboot.model.Employee;
 import com.example.springboot.service.EmployeeService;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -16,9 +19,12 @@ import org.springframework.test.web.servlet.ResultActions;
 
 import javax.xml.transform.Result;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,10 +34,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.hamcrest.CoreMatchers.is;
 
 @WebMvcTest(EmployeeController.class)
+@Import(LookupProperties.class)
 @ExtendWith(MockitoExtension.class)
 public class EmployeeControllerTest {
 
-    @MockitoBean
+    // Named like the real service so it also satisfies the controller's qualified write-path dependency.
+    @MockitoBean(name = "employeeServiceImpl")
     private EmployeeService employeeService; // Mocked EmployeeService for testing purposes
 
     @Autowired
@@ -75,7 +83,7 @@ public class EmployeeControllerTest {
                 .andReturn();
 
         String content = mvcResult.getResponse().getContentAsString();
-        assertThat(content, containsString("First Name, Last Name, and Email are required"));
+        assertThat(content, containsString("First Name is required"));
 
     }
 
@@ -95,7 +103,7 @@ public class EmployeeControllerTest {
                 .andReturn();
 
         String content = mvcResult.getResponse().getContentAsString();
-        assertThat(content, containsString("First Name, Last Name, and Email are required"));
+        assertThat(content, containsString("Last Name is required"));
 
     }
 
@@ -115,10 +123,47 @@ public class EmployeeControllerTest {
                 .andReturn();
 
         String content = mvcResult.getResponse().getContentAsString();
-        assertThat(content, containsString("First Name, Last Name, and Email are required"));
+        assertThat(content, containsString("Email is required"));
 
     }
 
+    @Test
+    public void givenEmployeeWithMalformedEmailWhenSaveThenReturnBadRequestResponse() throws Exception {
+
+        Employee employee = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("not-an-email")
+                .build();
+
+        mockMvc.perform(post("/api/employees")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(employee)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("Validation failed")))
+                .andExpect(jsonPath("$.errors[0].field", is("email")))
+                .andExpect(jsonPath("$.errors[0].message", is("Email must be a well-formed email address")));
+
+        verify(employeeService, never()).findByEmail(any());
+    }
+
+    @Test
+    public void givenEmployeeWithSeveralInvalidFieldsWhenSaveThenReturnAllViolations() throws Exception {
+
+        Employee employee = Employee.builder()
+                .firstName("J".repeat(Employee.NAME_MAX_LENGTH + 1))
+                .lastName(null)
+                .email(null)
+                .build();
+
+        mockMvc.perform(post("/api/employees")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(employee)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.size()", is(3)))
+                .andExpect(jsonPath("$.errors[*].field", containsInAnyOrder("firstName", "lastName", "email")));
+    }
+
     @Test
     public void givenEmployeeWithExistingEmailWhenSaveThenReturnBadRequestResponse() throws Exception {
         Employee employee = Employee.builder()
@@ -186,7 +231,7 @@ public class EmployeeControllerTest {
                 .andReturn();
 
         String content = mvcResult.getResponse().getContentAsString();
-        assertThat(content, containsString("Error saving employee:"));
+        assertThat(content, containsString("An unexpected error occurred"));
 
 
     }
@@ -233,7 +278,7 @@ public class EmployeeControllerTest {
                 .andReturn();
 
         String content = result.getResponse().getContentAsString();
-        assertThat(content, containsString("Error getting employees:"));
+        assertThat(content, containsString("An unexpected error occurred"));
 
     }
 
@@ -287,6 +332,27 @@ public class EmployeeControllerTest {
 
     }
 
+    @Test
+    public void givenEmployeeId_whenGetEmployeeById_thenReturnProblemDetailResponse() throws Exception {
+
+        // given - precondition or setup
+        long id = 1;
+
+        given(employeeService.getEmployeeById(id)).willReturn(Optional.empty());
+
+        // when - action or the behavior that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", id));
+
+        // then - verify the output
+        response.andExpect(status().isNotFound())
+                .andExpect(content().contentType("application/problem+json"))
+                .andExpect(jsonPath("$.status", is(404)))
+                .andExpect(jsonPath("$.title", is("Not Found")))
+                .andExpect(jsonPath("$.detail", is("Employee with ID 1 not found")))
+                .andExpect(jsonPath("$.instance", is("/api/employees/1")));
+
+    }
+
     // JUnit test for
     @Test
     public void givenEmployeeId_whenGetEmployeeById_thenReturnInternalServerErrorResponse() throws Exception {
@@ -303,7 +369,7 @@ public class EmployeeControllerTest {
                .andReturn();
 
         String content = result.getResponse().getContentAsString();
-        assertThat(content, containsString("Error getting employee by ID"));
+        assertThat(content, containsString("An unexpected error occurred"));
 
     }
 
@@ -380,7 +446,7 @@ public class EmployeeControllerTest {
                .andReturn();
 
         String content = result.getResponse().getContentAsString();
-        assertThat(content, containsString("First Name, Last Name, and Email are required"));
+        assertThat(content, containsString("First Name is required"));
 
     }
 
@@ -405,7 +471,7 @@ public class EmployeeControllerTest {
                 .andReturn();
 
         String content = result.getResponse().getContentAsString();
-        assertThat(content, containsString("First Name, Last Name, and Email are required"));
+        assertThat(content, containsString("Last Name is required"));
 
     }
 
@@ -430,7 +496,7 @@ public class EmployeeControllerTest {
                 .andReturn();
 
         String content = result.getResponse().getContentAsString();
-        assertThat(content, containsString("First Name, Last Name, and Email are required"));
+        assertThat(content, containsString("Email is required"));
 
     }
 
@@ -532,7 +598,7 @@ public class EmployeeControllerTest {
                .andReturn();
 
         String content = result.getResponse().getContentAsString();
-        assertThat(content, containsString("Error updating employee:"));
+        assertThat(content, containsString("An unexpected error occurred"));
 
     }
 
@@ -604,9 +670,85 @@ public class EmployeeControllerTest {
                .andReturn();
 
         String content = result.getResponse().getContentAsString();
-        assertThat(content, containsString("Error deleting employee:"));
+        assertThat(content, containsString("An unexpected error occurred"));
+
+    }
+
+    @Test
+    public void givenIdsAndEmails_whenLookupEmployees_thenReturnResultsInRequestOrderWithMisses() throws Exception {
+
+        // given - precondition or setup
+        Employee john = Employee.builder().id(1).firstName("John").lastName("Doe").email("john.doe@example.com").build();
+        Employee jane = Employee.builder().id(2).firstName("Jane").lastName("Doe").email("jane.doe@example.com").build();
+        given(employeeService.getEmployeesByIds(List.of(2L, 99L, 1L))).willReturn(Map.of(1L, john, 2L, jane));
+        given(employeeService.findByEmails(List.of("nobody@example.com", "john.doe@example.com")))
+                .willReturn(Map.of("john.doe@example.com", john));
+        EmployeeLookupRequest request = new EmployeeLookupRequest(List.of(2L, 99L, 1L),
+                List.of("nobody@example.com", "john.doe@example.com"));
 
+        // when - action or the behavior that we are going to test
+        mockMvc.perform(post("/api/employees/lookup")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(request)))
+
+                // then - verify the output
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(5)))
+                .andExpect(jsonPath("$.data[0].id", is(2)))
+                .andExpect(jsonPath("$.data[0].employee.firstName", is("Jane")))
+                .andExpect(jsonPath("$.data[1].id", is(99)))
+                .andExpect(jsonPath("$.data[1].found", is(false)))
+                .andExpect(jsonPath("$.data[2].employee.firstName", is("John")))
+                .andExpect(jsonPath("$.data[3].email", is("nobody@example.com")))
+                .andExpect(jsonPath("$.data[3].found", is(false)))
+                .andExpect(jsonPath("$.data[4].found", is(true)))
+                .andExpect(jsonPath("$.data[4].employee.id", is(1)));
     }
 
+    @Test
+    public void givenEmptyLookup_whenLookupEmployees_thenReturnBadRequestResponse() throws Exception {
+
+        mockMvc.perform(post("/api/employees/lookup")
+                        .contentType("application/json")
+                        .content("{\"ids\":[],\"emails\":null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("Validation failed")))
+                .andExpect(jsonPath("$.errors[0].field", is("anyKeyPresent")))
+                .andExpect(jsonPath("$.errors[0].message", is("Lookup must contain at least one id or email")));
+
+        verify(employeeService, never()).getEmployeesByIds(any());
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void givenTooManyKeys_whenLookupEmployees_thenReturnBadRequestResponse() throws Exception {
+
+        // given - precondition or setup
+        EmployeeLookupRequest request = new EmployeeLookupRequest(
+                LongStream.rangeClosed(1, 1001).boxed().toList(), List.of());
+
+        // when - action or the behavior that we are going to test
+        mockMvc.perform(post("/api/employees/lookup")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(request)))
+
+                // then - verify the output
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("Lookup must contain at most 1000 ids and emails")));
+
+        verify(employeeService, never()).getEmployeesByIds(any());
+    }
+
+    @Test
+    public void givenNullIdAndMalformedEmail_whenLookupEmployees_thenReturnEveryViolation() throws Exception {
+
+        mockMvc.perform(post("/api/employees/lookup")
+                        .contentType("application/json")
+                        .content("{\"ids\":[1,null],\"emails\":[\"not-an-email\"]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("Validation failed")))
+                .andExpect(jsonPath("$.errors[*].field", containsInAnyOrder("ids[1]", "emails[0]")));
+
+        verify(employeeService, never()).getEmployeesByIds(any());
+        verify(employeeService, never()).findByEmails(any());
+    }
+}
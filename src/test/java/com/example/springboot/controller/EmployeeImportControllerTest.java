@@ -0,0 +1,119 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.config.ImportProperties;
+import com.example.springboot.exception.BadRequestException;
+import com.example.springboot.model.EmployeeImport;
+import com.example.springboot.model.EmployeeImportReject;
+import com.example.springboot.model.ImportStatus;
+import com.example.springboot.service.EmployeeImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmployeeImportController.class)
+@Import(ImportProperties.class)
+public class EmployeeImportControllerTest {
+
+    @MockitoBean
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void givenCsvBody_whenSubmitImport_thenReturnAcceptedWithLocation() throws Exception {
+
+        // given - precondition or setup
+        given(employeeImportService.submit(any(InputStream.class))).willReturn(employeeImport(ImportStatus.QUEUED));
+
+        // when - action or the behavior that we are going to test
+        mockMvc.perform(post("/api/employees/imports")
+                        .contentType("text/csv")
+                        .content("firstName,lastName,email\nJohn,Doe,john.doe@example.com\n"))
+
+                // then - verify the output
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", endsWith("/api/employees/imports/7")))
+                .andExpect(jsonPath("$.id", is(7)))
+                .andExpect(jsonPath("$.status", is("QUEUED")));
+    }
+
+    @Test
+    public void givenCompletedImport_whenResumeImport_thenReturnBadRequestResponse() throws Exception {
+
+        // given - precondition or setup
+        given(employeeImportService.resume(7)).willThrow(new BadRequestException("Import with ID 7 has already completed"));
+
+        // when - action or the behavior that we are going to test
+        mockMvc.perform(post("/api/employees/imports/7/resume"))
+
+                // then - verify the output
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("Import with ID 7 has already completed")));
+    }
+
+    @Test
+    public void givenRejectsAfterLine_whenGetRejects_thenReturnPage() throws Exception {
+
+        // given - precondition or setup
+        EmployeeImportReject reject = EmployeeImportReject.builder()
+                .id(1L)
+                .importId(7L)
+                .lineNumber(12)
+                .reason("Email must be a well-formed email address")
+                .row("John,Doe,not-an-email")
+                .build();
+        given(employeeImportService.getImport(7)).willReturn(Optional.of(employeeImport(ImportStatus.RUNNING)));
+        given(employeeImportService.getRejects(7, 10, 5)).willReturn(List.of(reject));
+
+        // when - action or the behavior that we are going to test
+        mockMvc.perform(get("/api/employees/imports/7/rejects").param("since", "10").param("limit", "5"))
+
+                // then - verify the output
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(1)))
+                .andExpect(jsonPath("$.start", is(10)))
+                .andExpect(jsonPath("$.sort", is("lineNumber")))
+                .andExpect(jsonPath("$.data[0].lineNumber", is(12)))
+                .andExpect(jsonPath("$.data[0].row", is("John,Doe,not-an-email")));
+    }
+
+    @Test
+    public void givenMissingImport_whenGetImport_thenReturnNotFoundResponse() throws Exception {
+
+        given(employeeImportService.getImport(8)).willReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/employees/imports/8"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail", is("Import with ID 8 not found")));
+    }
+
+    private static EmployeeImport employeeImport(ImportStatus status) {
+        return EmployeeImport.builder()
+                .id(7L)
+                .source("/tmp/employees.csv")
+                .status(status)
+                .committedLine(1)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.springboot.controller;
+
+import com.example.springboot.dto.GroupCount;
+import com.example.springboot.service.EmployeeReportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmployeeReportController.class)
+public class EmployeeReportControllerTest {
+
+    @MockitoBean
+    private EmployeeReportService employeeReportService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void givenLimit_whenCountByEmailDomain_thenReturnLargestDomains() throws Exception {
+
+        // given - precondition or setup
+        given(employeeReportService.countByEmailDomain(Limit.of(2)))
+                .willReturn(List.of(new GroupCount("example.com", 40), new GroupCount("example.org", 2)));
+
+        // when - action or the behavior that we are going to test
+        mockMvc.perform(get("/api/employees/reports/email-domains").param("limit", "2"))
+
+                // then - verify the output
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(2)))
+                .andExpect(jsonPath("$.sort", is("count")))
+                .andExpect(jsonPath("$.data[0].group", is("example.com")))
+                .andExpect(jsonPath("$.data[0].count", is(40)));
+    }
+
+    @Test
+    public void givenLastNames_whenCountByLastNameInitial_thenReturnHistogram() throws Exception {
+
+        // given - precondition or setup
+        given(employeeReportService.countByLastNameInitial())
+                .willReturn(List.of(new GroupCount("D", 3), new GroupCount("S", 1)));
+
+        // when - action or the behavior that we are going to test
+        mockMvc.perform(get("/api/employees/reports/last-name-initials"))
+
+                // then - verify the output
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.order", is("asc")))
+                .andExpect(jsonPath("$.data[1].group", is("S")))
+                .andExpect(jsonPath("$.data[1].count", is(1)));
+    }
+
+    @Test
+    public void givenNonPositiveLimit_whenCountByEmailDomain_thenReturnBadRequestResponse() throws Exception {
+
+        mockMvc.perform(get("/api/employees/reports/email-domains").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("Parameter 'limit' must be positive")));
+    }
+}
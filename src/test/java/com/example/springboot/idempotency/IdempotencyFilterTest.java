@@ -0,0 +1,255 @@
+package com.example.springboot.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdempotencyFilterTest {
+
+    private final IdempotencyFilter filter = new IdempotencyFilter(new IdempotencyStore(100, Duration.ofMinutes(1)),
+            Duration.ofSeconds(5), DataSize.ofBytes(64), new ObjectMapper());
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void givenCompletedRequest_whenRepeatedWithSameKey_thenStoredResponseIsReplayed() throws Exception {
+
+        // given - precondition or setup
+        FilterChain chain = respondWith(200, "{\"id\":1}");
+        perform(request("key-1", "{\"email\":\"john@example.com\"}"), chain);
+
+        // when - action or the behavior that we are going to test
+        MockHttpServletResponse replay = perform(request("key-1", "{\"email\":\"john@example.com\"}"), chain);
+
+        // then - verify the output
+        assertThat(executions).hasValue(1);
+        assertThat(replay.getStatus()).isEqualTo(200);
+        assertThat(replay.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(replay.getContentType()).isEqualTo("application/json");
+        assertThat(replay.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    public void givenUsedKey_whenSentWithDifferentBody_thenReturnUnprocessableEntity() throws Exception {
+
+        // given - precondition or setup
+        FilterChain chain = respondWith(200, "{\"id\":1}");
+        perform(request("key-1", "{\"email\":\"john@example.com\"}"), chain);
+
+        // when - action or the behavior that we are going to test
+        MockHttpServletResponse response = perform(request("key-1", "{\"email\":\"jane@example.com\"}"), chain);
+
+        // then - verify the output
+        assertThat(executions).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("was already used for a different request");
+    }
+
+    @Test
+    public void givenServerError_whenRetriedWithSameKey_thenRequestRunsAgain() throws Exception {
+
+        // given - precondition or setup
+        perform(request("key-1", "{}"), respondWith(500, "{}"));
+
+        // when - action or the behavior that we are going to test
+        MockHttpServletResponse retry = perform(request("key-1", "{}"), respondWith(200, "{\"id\":1}"));
+
+        // then - verify the output
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(200);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    public void givenInFlightRequest_whenDuplicateArrives_thenItWaitsForTheOriginalResponse() throws Exception {
+
+        // given - precondition or setup
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slowChain = (request, response) -> {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            write((HttpServletResponse) response, 200, "{\"id\":1}");
+        };
+        Future<MockHttpServletResponse> original = executor.submit(() -> perform(request("key-1", "{}"), slowChain));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - action or the behavior that we are going to test
+        Thread releaser = new Thread(() -> {
+            sleep(200);
+            release.countDown();
+        });
+        releaser.start();
+        MockHttpServletResponse duplicate = perform(request("key-1", "{}"), slowChain);
+
+        // then - verify the output
+        assertThat(executions).hasValue(1);
+        assertThat(original.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(duplicate.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(duplicate.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    public void givenRequestWithoutKeyOrJsonBody_whenFiltered_thenEveryRequestRuns() throws Exception {
+
+        // given - precondition or setup
+        FilterChain chain = respondWith(202, "{}");
+
+        // when - action or the behavior that we are going to test
+        perform(request(null, "{}"), chain);
+        perform(request(null, "{}"), chain);
+        perform(csvRequest("key-1"), chain);
+        perform(csvRequest("key-1"), chain);
+
+        // then - verify the output
+        assertThat(executions).hasValue(4);
+    }
+
+    @Test
+    public void givenBodyLargerThanTheLimit_whenFiltered_thenReturnPayloadTooLarge() throws Exception {
+
+        // given - precondition or setup
+        FilterChain chain = respondWith(200, "{}");
+        MockHttpServletRequest declared = request("key-1", "{\"note\":\"" + "x".repeat(100) + "\"}");
+        MockHttpServletRequest chunked = request("key-2", "{\"note\":\"" + "x".repeat(100) + "\"}");
+
+        // when - action or the behavior that we are going to test
+        MockHttpServletResponse declaredResponse = perform(declared, chain);
+        MockHttpServletResponse chunkedResponse = perform(new UnknownLengthRequest(chunked), chain);
+
+        // then - verify the output
+        assertThat(executions).hasValue(0);
+        assertThat(declaredResponse.getStatus()).isEqualTo(413);
+        assertThat(declaredResponse.getContentAsString()).contains("larger than 64 bytes");
+        assertThat(chunkedResponse.getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    public void givenBufferedBody_whenReadNonBlocking_thenListenerSeesTheWholeBody() throws Exception {
+
+        // given - precondition or setup
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicInteger completed = new AtomicInteger();
+        FilterChain asyncReader = (request, response) -> {
+            executions.incrementAndGet();
+            ServletInputStream in = request.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    read.write(in.readAllBytes());
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    completed.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+            });
+            write((HttpServletResponse) response, 200, "{}");
+        };
+
+        // when - action or the behavior that we are going to test
+        perform(request("key-1", "{\"email\":\"john@example.com\"}"), asyncReader);
+
+        // then - verify the output
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"email\":\"john@example.com\"}");
+        assertThat(completed).hasValue(1);
+    }
+
+    private MockHttpServletResponse perform(HttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private FilterChain respondWith(int status, String body) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            // The controller reads the body the filter already consumed for the fingerprint.
+            assertThat(request.getInputStream().readAllBytes()).isNotEmpty();
+            write((HttpServletResponse) response, status, body);
+        };
+    }
+
+    private static void write(HttpServletResponse response, int status, String body) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/employees");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        return request;
+    }
+
+    private static MockHttpServletRequest csvRequest(String key) {
+        MockHttpServletRequest request = request(key, "firstName,lastName,email\n");
+        request.setContentType("text/csv");
+        return request;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A request whose body arrives without a declared length, like a chunked upload.
+     */
+    private static class UnknownLengthRequest extends HttpServletRequestWrapper {
+
+        UnknownLengthRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.springboot.idempotency;
+
+import com.example.springboot.idempotency.IdempotencyStore.Claim;
+import com.example.springboot.idempotency.IdempotencyStore.StoredResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(1, Duration.ofMinutes(1));
+
+    @Test
+    public void givenInFlightClaim_whenOtherKeysFillTheCache_thenTheClaimIsNotEvicted() {
+
+        // given - precondition or setup
+        Claim inFlight = claim("a");
+        assertThat(store.putIfAbsent("key-1", inFlight)).isNull();
+
+        // when - action or the behavior that we are going to test
+        for (int i = 2; i <= 100; i++) {
+            Claim other = claim("b");
+            store.putIfAbsent("key-" + i, other);
+            store.complete("key-" + i, other, response());
+        }
+
+        // then - verify the output
+        assertThat(store.putIfAbsent("key-1", claim("a"))).isSameAs(inFlight);
+    }
+
+    @Test
+    public void givenCompletedClaim_whenKeyIsClaimedAgain_thenTheCompletedClaimIsReturned() {
+
+        // given - precondition or setup
+        Claim original = claim("a");
+        store.putIfAbsent("key-1", original);
+        store.complete("key-1", original, response());
+
+        // when - action or the behavior that we are going to test
+        Claim existing = store.putIfAbsent("key-1", claim("a"));
+
+        // then - verify the output
+        assertThat(existing).isSameAs(original);
+        assertThat(existing.response()).isCompleted();
+    }
+
+    @Test
+    public void givenReleasedClaim_whenKeyIsClaimedAgain_thenTheNewClaimOwnsIt() {
+
+        // given - precondition or setup
+        Claim failed = claim("a");
+        store.putIfAbsent("key-1", failed);
+        store.release("key-1", failed);
+
+        // when - action or the behavior that we are going to test
+        Claim existing = store.putIfAbsent("key-1", claim("a"));
+
+        // then - verify the output
+        assertThat(existing).isNull();
+        assertThat(failed.response()).isCompletedWithValue(null);
+    }
+
+    private static Claim claim(String fingerprint) {
+        return new Claim(fingerprint, new CompletableFuture<>());
+    }
+
+    private static StoredResponse response() {
+        return new StoredResponse(200, Map.of("Content-Type", List.of("application/json")), new byte[0]);
+    }
+}
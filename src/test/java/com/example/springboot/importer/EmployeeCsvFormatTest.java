@@ -0,0 +1,70 @@
+package com.example.springboot.importer;
+
+import com.example.springboot.exception.BadRequestException;
+import com.example.springboot.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EmployeeCsvFormatTest {
+
+    @Test
+    public void givenReorderedHeaderWithByteOrderMark_whenParse_thenColumnsAreMatchedByName() {
+
+        // given - precondition or setup
+        EmployeeCsvFormat format = EmployeeCsvFormat.fromHeader("\uFEFFEmail, department ,Last_Name,First Name");
+
+        // when - action or the behavior that we are going to test
+        Employee employee = format.parse(" john.doe@example.com ,Sales,\"Doe, Jr.\",\"John \"\"JD\"\"\"");
+
+        // then - verify the output
+        assertThat(employee.getEmail()).isEqualTo("john.doe@example.com");
+        assertThat(employee.getLastName()).isEqualTo("Doe, Jr.");
+        assertThat(employee.getFirstName()).isEqualTo("John \"JD\"");
+        assertThat(employee.getId()).isNull();
+    }
+
+    @Test
+    public void givenHeaderWithoutEmail_whenFromHeader_thenThrowBadRequest() {
+
+        assertThatThrownBy(() -> EmployeeCsvFormat.fromHeader("firstName,lastName"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("CSV header must contain the columns firstName, lastName and email");
+        assertThatThrownBy(() -> EmployeeCsvFormat.fromHeader(null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("CSV file is empty");
+    }
+
+    @Test
+    public void givenMalformedLines_whenParse_thenThrowWithRejectReason() {
+
+        // given - precondition or setup
+        EmployeeCsvFormat format = EmployeeCsvFormat.fromHeader("firstName,lastName,email");
+
+        // when - action or the behavior that we are going to test
+        // then - verify the output
+        assertThatThrownBy(() -> format.parse("John,Doe"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected at least 3 columns but found 2");
+        assertThatThrownBy(() -> format.parse("John,\"Doe,john@example.com"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unterminated quoted field");
+    }
+
+    @Test
+    public void givenValuesWithSeparators_whenQuote_thenRoundTripThroughSplit() {
+
+        // given - precondition or setup
+        String plain = "plain";
+        String awkward = "a,\"b\"";
+
+        // when - action or the behavior that we are going to test
+        String line = EmployeeCsvFormat.quote(plain) + "," + EmployeeCsvFormat.quote(awkward) + ","
+                + EmployeeCsvFormat.quote(null);
+
+        // then - verify the output
+        assertThat(EmployeeCsvFormat.quote(plain)).isEqualTo("plain");
+        assertThat(EmployeeCsvFormat.split(line)).containsExactly("plain", "a,\"b\"", "");
+    }
+}
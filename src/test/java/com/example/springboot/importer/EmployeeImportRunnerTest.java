@@ -0,0 +1,63 @@
+package com.example.springboot.importer;
+
+import com.example.springboot.config.ImportProperties;
+import com.example.springboot.model.EmployeeImport;
+import com.example.springboot.model.ImportStatus;
+import com.example.springboot.service.EmployeeImportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeImportRunnerTest {
+
+    @Mock
+    private EmployeeImportService employeeImportService;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void givenCompletedImport_whenRun_thenExitCodeIsZeroAndRejectReportIsWritten() throws Exception {
+
+        // given - precondition or setup
+        EmployeeImportRunner runner = runnerFor(ImportStatus.COMPLETED);
+
+        // when - action or the behavior that we are going to test
+        runner.run();
+
+        // then - verify the output
+        assertThat(runner.getExitCode()).isZero();
+        assertThat(directory.resolve("employees.csv.rejects.csv")).exists();
+    }
+
+    @Test
+    public void givenFailedImport_whenRun_thenExitCodeIsOne() throws Exception {
+
+        // given - precondition or setup
+        EmployeeImportRunner runner = runnerFor(ImportStatus.FAILED);
+
+        // when - action or the behavior that we are going to test
+        runner.run();
+
+        // then - verify the output
+        assertThat(runner.getExitCode()).isEqualTo(1);
+    }
+
+    private EmployeeImportRunner runnerFor(ImportStatus status) throws Exception {
+        Path file = Files.writeString(directory.resolve("employees.csv"), "firstName,lastName,email\n");
+        ImportProperties importProperties = new ImportProperties();
+        importProperties.setFile(file);
+        given(employeeImportService.importFile(file))
+                .willReturn(EmployeeImport.builder().id(1L).source(file.toString()).status(status).build());
+        return new EmployeeImportRunner(employeeImportService, importProperties);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.springboot.repository;
+
+import com.example.springboot.IntegrationTest;
+import com.example.springboot.model.ChangeType;
+import com.example.springboot.model.EmployeeChange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ResourceLock(IntegrationTest.DATA_JPA_DATABASE)
+public class EmployeeChangeRepositoryTests {
+
+    @Autowired
+    private EmployeeChangeRepository employeeChangeRepository;
+
+    private EmployeeChange change(long employeeId, ChangeType type, Instant occurredAt) {
+        return employeeChangeRepository.save(EmployeeChange.builder()
+                .employeeId(employeeId)
+                .type(type)
+                .occurredAt(occurredAt)
+                .build());
+    }
+
+    // JUnit test for reading the change feed from a sequence number
+    @Test
+    public void givenChanges_whenFindBySeqGreaterThan_thenReturnLaterChangesInOrder() {
+
+        // given - precondition or setup
+        Instant now = Instant.now();
+        EmployeeChange first = change(1, ChangeType.CREATED, now);
+        EmployeeChange second = change(2, ChangeType.CREATED, now);
+        EmployeeChange third = change(1, ChangeType.UPDATED, now);
+
+        // when - action or the behavior that we are going to test
+        List<EmployeeChange> changes = employeeChangeRepository.findBySeqGreaterThanOrderBySeqAsc(first.getSeq(), Limit.of(10));
+
+        // then - verify the output
+        assertThat(changes).extracting(EmployeeChange::getSeq).containsExactly(second.getSeq(), third.getSeq());
+        assertThat(employeeChangeRepository.findLatestSeq()).isEqualTo(third.getSeq());
+    }
+
+    // JUnit test for compacting superseded changes
+    @Test
+    public void givenOldSupersededChanges_whenDeleteSuperseded_thenKeepNewestPerEmployee() {
+
+        // given - precondition or setup
+        Instant old = Instant.now().minus(Duration.ofDays(1));
+        change(1, ChangeType.CREATED, old);
+        change(1, ChangeType.UPDATED, old);
+        EmployeeChange newestOfFirst = change(1, ChangeType.UPDATED, old);
+        EmployeeChange onlyOfSecond = change(2, ChangeType.CREATED, old);
+
+        // when - action or the behavior that we are going to test
+        int deleted = employeeChangeRepository.deleteSupersededOlderThan(Instant.now().minus(Duration.ofHours(1)));
+
+        // then - verify the output
+        assertThat(deleted).isEqualTo(2);
+        assertThat(employeeChangeRepository.findAll()).extracting(EmployeeChange::getSeq)
+                .containsExactlyInAnyOrder(newestOfFirst.getSeq(), onlyOfSecond.getSeq());
+    }
+
+    // JUnit test for pruning changes past the retention period
+    @Test
+    public void givenExpiredChanges_whenDeleteOlderThan_thenOnlyRecentChangesRemain() {
+
+        // given - precondition or setup
+        change(1, ChangeType.CREATED, Instant.now().minus(Duration.ofDays(30)));
+        EmployeeChange recent = change(2, ChangeType.CREATED, Instant.now());
+
+        // when - action or the behavior that we are going to test
+        int deleted = employeeChangeRepository.deleteOlderThan(Instant.now().minus(Duration.ofDays(7)));
+
+        // then - verify the output
+        assertThat(deleted).isEqualTo(1);
+        assertThat(employeeChangeRepository.findAll()).extracting(EmployeeChange::getSeq).containsExactly(recent.getSeq());
+    }
+}
@@ -1,20 +1,28 @@
 package com.example.springboot.repository;
 
+import com.example.springboot.IntegrationTest;
 import com.example.springboot.model.Employee;
 import static org.assertj.core.api.Assertions.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.time.Instant;
 import java.util.List;
 
 @DataJpaTest
+@ResourceLock(IntegrationTest.DATA_JPA_DATABASE)
 public class EmployeeRepositoryTests {
 
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     // JUnit test for save employee operation
     @DisplayName("Given Employee Object when Save then Return Saved Employee")
     @Test
@@ -68,4 +76,25 @@ public class EmployeeRepositoryTests {
 
     }
 
+    // JUnit test for deleted_at being written only by the soft delete
+    @Test
+    public void givenEmployeeWithDeletedAt_whenSave_thenEmployeeStaysActive() {
+
+        // given - precondition or setup
+        Employee employee = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .deletedAt(Instant.now())
+                .build();
+
+        // when - action or the behavior that we are going to test
+        Employee savedEmployee = employeeRepository.save(employee);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then - verify the output
+        assertThat(employeeRepository.findById(savedEmployee.getId().longValue())).isPresent();
+    }
+
 }
@@ -1,23 +1,34 @@
 package com.example.springboot.service.impl;
 
+import com.example.springboot.config.LookupProperties;
+import com.example.springboot.event.EmployeeCacheInvalidationEvent;
+import com.example.springboot.event.EmployeeChangedEvent;
+import com.example.springboot.event.EmployeeSummaryDeltaEvent;
 import com.example.springboot.model.Employee;
 import com.example.springboot.repository.EmployeeRepository;
+import com.example.springboot.service.EmployeeChangeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -27,6 +38,15 @@ public class EmployeeServiceImplTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EmployeeChangeService employeeChangeService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private LookupProperties lookupProperties = new LookupProperties();
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -50,6 +70,8 @@ public class EmployeeServiceImplTest {
         Employee savedEmployee = employeeService.saveEmployee(employee);
 
         assertThat(savedEmployee).isNotNull();
+        verify(employeeChangeService, times(1)).recordCreated(employee);
+        verify(eventPublisher, times(1)).publishEvent(any(EmployeeChangedEvent.class));
 
     }
 
@@ -112,6 +134,8 @@ public class EmployeeServiceImplTest {
         // then - verify the output
         assertThat(updatedEmployee.getEmail()).isEqualTo("ram@gmail.com");
         assertThat(updatedEmployee.getFirstName()).isEqualTo("Ram");
+        verify(employeeChangeService, times(1)).recordUpdated(employee);
+        verify(eventPublisher, times(1)).publishEvent(any(EmployeeCacheInvalidationEvent.class));
     }
 
     // JUnit test for deleteEmployee method
@@ -121,6 +145,7 @@ public class EmployeeServiceImplTest {
         // given - precondition or setup
         long employeeId = 1L;
 
+        given(employeeRepository.findById(employeeId)).willReturn(Optional.of(employee));
         willDoNothing().given(employeeRepository).deleteById(employeeId);
 
         // when -  action or the behaviour that we are going test
@@ -128,6 +153,39 @@ public class EmployeeServiceImplTest {
 
         // then - verify the output
         verify(employeeRepository, times(1)).deleteById(employeeId);
+        verify(employeeChangeService, times(1)).recordDeleted(employeeId);
+    }
+
+    @Test
+    public void givenMissingEmployeeId_whenDeleteEmployee_thenNoChangeIsRecorded() {
+        // given - precondition or setup
+        long employeeId = 99L;
+
+        given(employeeRepository.findById(employeeId)).willReturn(Optional.empty());
+
+        // when -  action or the behaviour that we are going test
+        employeeService.deleteEmployee(employeeId);
+
+        // then - verify the output
+        verify(employeeChangeService, never()).recordDeleted(anyLong());
+        verify(eventPublisher, never()).publishEvent(any(EmployeeSummaryDeltaEvent.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void givenMoreIdsThanBatchSize_whenGetEmployeesByIds_thenQueryInChunks() {
+
+        // given - precondition or setup
+        lookupProperties.setBatchSize(2);
+        Employee jane = Employee.builder().id(3).firstName("Jane").lastName("Doe").email("jane@example.com").build();
+        given(employeeRepository.findByIdIn(List.of(1, 2))).willReturn(List.of(employee));
+        given(employeeRepository.findByIdIn(List.of(3))).willReturn(List.of(jane));
+
+        // when - action or the behaviour that we are going test
+        Map<Long, Employee> employees = employeeService.getEmployeesByIds(List.of(1L, 2L, 1L, 3L, Long.MAX_VALUE));
+
+        // then - verify the output
+        assertThat(employees).containsOnlyKeys(1L, 3L);
+        assertThat(employees.get(3L)).isSameAs(jane);
+        verify(employeeRepository, times(2)).findByIdIn(any());
+    }
+}
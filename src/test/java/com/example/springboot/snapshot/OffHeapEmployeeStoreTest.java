@@ -0,0 +1,109 @@
+package com.example.springboot.snapshot;
+
+import com.example.springboot.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffHeapEmployeeStoreTest {
+
+    private OffHeapEmployeeStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = new OffHeapEmployeeStore(64);
+        store.put(1, "John", "Doe", "john.doe@example.com");
+        store.put(2, "Marry", "Jane", "marry.jane@example.com");
+    }
+
+    @Test
+    public void givenStoredEmployees_whenLookedUp_thenDecodedByIdAndEmail() {
+
+        // when - action or the behavior that we are going to test
+        Employee byId = store.getById(1).orElseThrow();
+        Employee byEmail = store.getByEmail("marry.jane@example.com").orElseThrow();
+
+        // then - verify the output
+        assertThat(byId).usingRecursiveComparison()
+                .isEqualTo(new Employee(1, "John", "Doe", "john.doe@example.com"));
+        assertThat(byEmail.getId()).isEqualTo(2);
+        assertThat(store.getById(3)).isEmpty();
+        assertThat(store.getByEmail("nobody@example.com")).isEmpty();
+    }
+
+    @Test
+    public void givenEmailChange_whenPut_thenOldEmailNoLongerResolves() {
+
+        // when - action or the behavior that we are going to test
+        store.put(1, "John", "Doe", "john@example.com");
+
+        // then - verify the output
+        assertThat(store.getByEmail("john.doe@example.com")).isEmpty();
+        assertThat(store.getByEmail("john@example.com")).map(Employee::getId).hasValue(1);
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenEmailMovedToAnotherEmployee_whenPreviousOwnerRemoved_thenNewOwnerStillResolves() {
+
+        // given - precondition or setup
+        store.put(3, "Johnny", "Doe", "john.doe@example.com");
+
+        // when - action or the behavior that we are going to test
+        store.remove(1);
+
+        // then - verify the output
+        assertThat(store.getByEmail("john.doe@example.com")).map(Employee::getId).hasValue(3);
+        assertThat(store.getById(1)).isEmpty();
+    }
+
+    @Test
+    public void givenNonAsciiNames_whenPut_thenRoundTrips() {
+
+        // when - action or the behavior that we are going to test
+        store.put(4, "Zoë", "Łukasiewicz", "zoe@example.com");
+
+        // then - verify the output
+        assertThat(store.getById(4)).map(Employee::getLastName).hasValue("Łukasiewicz");
+        assertThat(store.getByEmail("zoe@example.com")).map(Employee::getFirstName).hasValue("Zoë");
+    }
+
+    @Test
+    public void givenChurnBeyondCapacity_whenCompacted_thenLatestVersionOfEveryEmployeeSurvives() {
+
+        // given - precondition or setup
+        Random random = new Random(42);
+        Map<Integer, String> expectedEmails = new HashMap<>();
+
+        // when - action or the behavior that we are going to test
+        for (int i = 0; i < 20_000; i++) {
+            int id = random.nextInt(2_000) + 1;
+            if (random.nextInt(10) == 0) {
+                store.remove(id);
+                expectedEmails.remove(id);
+            } else {
+                String email = "employee" + id + "." + i + "@example.com";
+                store.put(id, "First" + id, "Last" + id, email);
+                expectedEmails.put(id, email);
+            }
+        }
+
+        // then - verify the output
+        assertThat(store.size()).isEqualTo(expectedEmails.size());
+        assertThat(store.getLiveBytes()).isLessThanOrEqualTo(store.getCapacityBytes());
+        for (int id = 1; id <= 2_000; id++) {
+            String email = expectedEmails.get(id);
+            if (email == null) {
+                assertThat(store.getById(id)).isEmpty();
+            } else {
+                assertThat(store.getById(id)).map(Employee::getEmail).hasValue(email);
+                assertThat(store.getByEmail(email)).map(Employee::getId).hasValue(id);
+            }
+        }
+    }
+}
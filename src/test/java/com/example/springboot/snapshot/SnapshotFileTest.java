@@ -0,0 +1,80 @@
+package com.example.springboot.snapshot;
+
+import com.example.springboot.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void givenSavedStore_whenRead_thenRecordsIndexesAndVersionAreRestored() throws IOException {
+
+        // given - precondition or setup
+        OffHeapEmployeeStore store = new OffHeapEmployeeStore(4096);
+        for (int id = 1; id <= 50; id++) {
+            store.put(id, "First" + id, "Last" + id, "employee" + id + "@example.com");
+        }
+        store.remove(7);
+        Path file = directory.resolve("employees.snapshot");
+
+        // when - action or the behavior that we are going to test
+        SnapshotFile.write(store, 42, file);
+        SnapshotFile.Contents contents = SnapshotFile.read(file);
+
+        // then - verify the output
+        OffHeapEmployeeStore restored = contents.store();
+        assertThat(contents.version()).isEqualTo(42);
+        assertThat(restored.size()).isEqualTo(49);
+        assertThat(restored.getLiveBytes()).isEqualTo(store.getLiveBytes());
+        assertThat(restored.getById(7)).isEmpty();
+        assertThat(restored.getById(8)).map(Employee::getEmail).hasValue("employee8@example.com");
+        assertThat(restored.getByEmail("employee50@example.com")).map(Employee::getId).hasValue(50);
+    }
+
+    @Test
+    public void givenRestoredStore_whenWrittenTo_thenFileIsUnchangedAndStoreCanGrow() throws IOException {
+
+        // given - precondition or setup
+        OffHeapEmployeeStore store = new OffHeapEmployeeStore(256);
+        store.put(1, "John", "Doe", "john.doe@example.com");
+        Path file = directory.resolve("employees.snapshot");
+        SnapshotFile.write(store, 1, file);
+        byte[] saved = Files.readAllBytes(file);
+        OffHeapEmployeeStore restored = SnapshotFile.read(file).store();
+
+        // when - action or the behavior that we are going to test
+        restored.put(1, "John", "Doe", "john@example.com");
+        for (int id = 2; id <= 100; id++) {
+            restored.put(id, "First" + id, "Last" + id, "employee" + id + "@example.com");
+        }
+
+        // then - verify the output
+        assertThat(Files.readAllBytes(file)).isEqualTo(saved);
+        assertThat(restored.getByEmail("john@example.com")).map(Employee::getId).hasValue(1);
+        assertThat(restored.getById(100)).isPresent();
+        assertThat(SnapshotFile.read(file).store().getByEmail("john.doe@example.com")).isPresent();
+    }
+
+    @Test
+    public void givenForeignFile_whenRead_thenRejected() throws IOException {
+
+        // given - precondition or setup
+        Path file = Files.writeString(directory.resolve("employees.snapshot"), "not a snapshot");
+
+        // when - action or the behavior that we are going to test
+        // then - verify the output
+        assertThatThrownBy(() -> SnapshotFile.read(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not an employee snapshot file");
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.springboot.stream;
+
+import com.example.springboot.config.OutboxProperties;
+import com.example.springboot.config.StreamProperties;
+import com.example.springboot.model.ChangeType;
+import com.example.springboot.model.EmployeeChange;
+import com.example.springboot.service.EmployeeChangeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeChangeStreamerTest {
+
+    @Mock
+    private EmployeeChangeService employeeChangeService;
+
+    private EmployeeEventBroadcaster broadcaster;
+
+    private EmployeeChangeStreamer streamer;
+
+    @BeforeEach
+    public void setup() {
+        StreamProperties streamProperties = new StreamProperties();
+        streamProperties.setBufferSize(3);
+        streamProperties.setSenderThreads(2);
+        broadcaster = new EmployeeEventBroadcaster(streamProperties);
+        streamer = new EmployeeChangeStreamer(employeeChangeService, new OutboxProperties(), streamProperties,
+                broadcaster);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        streamer.destroy();
+        broadcaster.destroy();
+    }
+
+    @Test
+    public void givenBacklog_whenSubscribedAndPolled_thenBacklogAndLiveChangesAreSentOnce() {
+
+        // given - precondition or setup
+        given(employeeChangeService.getChangesSince(eq(0L), anyInt())).willReturn(List.of(change(1), change(2)));
+        given(employeeChangeService.getLatestSeq()).willReturn(1L);
+        given(employeeChangeService.getChangesSince(eq(1L), anyInt())).willReturn(List.of(change(2), change(3)));
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        streamer.register(emitter, 0);
+
+        // when - action or the behavior that we are going to test
+        streamer.poll();
+
+        // then - verify the output
+        await().atMost(5, TimeUnit.SECONDS).until(() -> emitter.sent.size() == 3);
+        assertThat(streamer.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenSlowSubscriber_whenItsBufferOverflows_thenItIsDroppedWithoutBlockingThePoll() {
+
+        // given - precondition or setup
+        given(employeeChangeService.getChangesSince(eq(0L), anyInt())).willReturn(List.of(change(1)));
+        given(employeeChangeService.getLatestSeq()).willReturn(1L);
+        given(employeeChangeService.getChangesSince(eq(1L), anyInt()))
+                .willReturn(List.of(change(2), change(3), change(4)));
+        given(employeeChangeService.getChangesSince(eq(4L), anyInt())).willReturn(List.of(change(5)));
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        streamer.register(slow, 0);
+        streamer.register(fast, 0);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> slow.blocked && fast.sent.size() == 1);
+
+        // when - action or the behavior that we are going to test
+        streamer.poll();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> fast.sent.size() == 4);
+        streamer.poll();
+        release.countDown();
+
+        // then - verify the output
+        assertThat(slow.completed).isTrue();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> fast.sent.size() == 5);
+        assertThat(fast.completed).isFalse();
+        assertThat(streamer.getSubscriberCount()).isEqualTo(1);
+    }
+
+    private static EmployeeChange change(long seq) {
+        return EmployeeChange.builder()
+                .seq(seq)
+                .employeeId(1L)
+                .type(ChangeType.UPDATED)
+                .occurredAt(Instant.now())
+                .build();
+    }
+
+    /**
+     * Emitter that records events instead of writing them, optionally blocking the first send.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch release;
+
+        private volatile boolean blocked;
+
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null && sent.isEmpty()) {
+                blocked = true;
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(builder);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.springboot.stream;
+
+import com.example.springboot.config.StreamProperties;
+import com.example.springboot.config.StreamProperties.OverflowPolicy;
+import com.example.springboot.event.EmployeeChangedEvent;
+import com.example.springboot.model.ChangeType;
+import com.example.springboot.model.EmployeeChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class EmployeeEventBroadcasterTest {
+
+    private EmployeeEventBroadcaster broadcaster;
+
+    @AfterEach
+    public void tearDown() {
+        broadcaster.destroy();
+    }
+
+    private EmployeeEventBroadcaster broadcaster(int bufferSize, OverflowPolicy policy) {
+        StreamProperties properties = new StreamProperties();
+        properties.setBufferSize(bufferSize);
+        properties.setOverflowPolicy(policy);
+        properties.setSenderThreads(2);
+        broadcaster = new EmployeeEventBroadcaster(properties);
+        return broadcaster;
+    }
+
+    private static EmployeeChangedEvent event(long seq) {
+        return new EmployeeChangedEvent(EmployeeChange.builder()
+                .seq(seq)
+                .employeeId(1L)
+                .type(ChangeType.UPDATED)
+                .occurredAt(Instant.now())
+                .build());
+    }
+
+    @Test
+    public void givenSubscriber_whenEmployeeChanged_thenEventIsSent() {
+
+        // given - precondition or setup
+        EmployeeEventBroadcaster broadcaster = broadcaster(8, OverflowPolicy.DISCONNECT);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        broadcaster.register(emitter);
+
+        // when - action or the behavior that we are going to test
+        broadcaster.onEmployeeChanged(event(1));
+        broadcaster.onEmployeeChanged(event(2));
+
+        // then - verify the output
+        await().atMost(5, TimeUnit.SECONDS).until(() -> emitter.sent.size() == 2);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenSlowSubscriberAndDisconnectPolicy_whenBufferOverflows_thenSubscriberIsDropped() {
+
+        // given - precondition or setup
+        EmployeeEventBroadcaster broadcaster = broadcaster(2, OverflowPolicy.DISCONNECT);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        broadcaster.register(slow);
+        broadcaster.register(fast);
+
+        // when - action or the behavior that we are going to test
+        for (long seq = 1; seq <= 5; seq++) {
+            broadcaster.onEmployeeChanged(event(seq));
+            int expected = (int) seq;
+            await().atMost(5, TimeUnit.SECONDS).until(() -> slow.blocked && fast.sent.size() == expected);
+        }
+        release.countDown();
+
+        // then - verify the output
+        assertThat(slow.completed).isTrue();
+        assertThat(fast.completed).isFalse();
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenSlowSubscriberAndDropOldestPolicy_whenBufferOverflows_thenOldestEventsAreDropped() {
+
+        // given - precondition or setup
+        EmployeeEventBroadcaster broadcaster = broadcaster(2, OverflowPolicy.DROP_OLDEST);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        broadcaster.register(slow);
+
+        // when - action or the behavior that we are going to test
+        broadcaster.onEmployeeChanged(event(1));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> slow.blocked);
+        for (long seq = 2; seq <= 5; seq++) {
+            broadcaster.onEmployeeChanged(event(seq));
+        }
+        release.countDown();
+
+        // then - verify the output
+        await().atMost(5, TimeUnit.SECONDS).until(() -> slow.sent.size() == 3);
+        assertThat(broadcaster.getDroppedEventCount()).isEqualTo(2);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenShutDownBroadcaster_whenEmployeeChanged_thenLateSubscriberIsCompleted() {
+
+        // given - precondition or setup
+        EmployeeEventBroadcaster broadcaster = broadcaster(8, OverflowPolicy.DISCONNECT);
+        broadcaster.destroy();
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        broadcaster.register(emitter);
+
+        // when - action or the behavior that we are going to test
+        broadcaster.onEmployeeChanged(event(1));
+
+        // then - verify the output
+        assertThat(emitter.completed).isTrue();
+        assertThat(emitter.sent).isEmpty();
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    /**
+     * Emitter that records events instead of writing them, optionally blocking the first send.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch release;
+
+        private volatile boolean blocked;
+
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null && sent.isEmpty()) {
+                blocked = true;
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(builder);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
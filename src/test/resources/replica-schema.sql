@@ -0,0 +1,35 @@
+-- Schema for the H2 database that stands in for a read replica in tests.
+CREATE TABLE IF NOT EXISTS employees (
+    id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    deleted_at TIMESTAMP(6) WITH TIME ZONE,
+    active_email VARCHAR(255) GENERATED ALWAYS AS (CASE WHEN deleted_at IS NULL THEN email END) UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS employees_archive (
+    id INTEGER PRIMARY KEY,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    deleted_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    archived_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS employee_changes (
+    seq BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    employee_id BIGINT NOT NULL,
+    type VARCHAR(16) NOT NULL,
+    first_name VARCHAR(100),
+    last_name VARCHAR(100),
+    email VARCHAR(255),
+    occurred_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    version BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    cache_name VARCHAR(64) NOT NULL,
+    cache_key VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);